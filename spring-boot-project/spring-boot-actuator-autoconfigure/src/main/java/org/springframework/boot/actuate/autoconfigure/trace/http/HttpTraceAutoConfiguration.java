@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@ package org.springframework.boot.actuate.autoconfigure.trace.http;
 
 import org.springframework.boot.actuate.trace.http.HttpExchangeTracer;
 import org.springframework.boot.actuate.trace.http.HttpTraceRepository;
+import org.springframework.boot.actuate.trace.http.HttpTraceSampler;
 import org.springframework.boot.actuate.web.trace.reactive.HttpTraceWebFilter;
 import org.springframework.boot.actuate.web.trace.servlet.HttpTraceFilter;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
@@ -49,14 +50,23 @@ public class HttpTraceAutoConfiguration {
 		return new HttpExchangeTracer(traceProperties.getInclude());
 	}
 
+	@Bean
+	@ConditionalOnMissingBean
+	public HttpTraceSampler httpTraceSampler(HttpTraceProperties traceProperties) {
+		HttpTraceProperties.Sampling sampling = traceProperties.getSampling();
+		Integer rateLimit = sampling.getRateLimit();
+		return new HttpTraceSampler(sampling.getProbability(), (rateLimit != null) ? rateLimit : -1);
+	}
+
 	@Configuration(proxyBeanMethods = false)
 	@ConditionalOnWebApplication(type = Type.SERVLET)
 	static class ServletTraceFilterConfiguration {
 
 		@Bean
 		@ConditionalOnMissingBean
-		HttpTraceFilter httpTraceFilter(HttpTraceRepository repository, HttpExchangeTracer tracer) {
-			return new HttpTraceFilter(repository, tracer);
+		HttpTraceFilter httpTraceFilter(HttpTraceRepository repository, HttpExchangeTracer tracer,
+				HttpTraceSampler sampler) {
+			return new HttpTraceFilter(repository, tracer, sampler);
 		}
 
 	}
@@ -68,8 +78,8 @@ public class HttpTraceAutoConfiguration {
 		@Bean
 		@ConditionalOnMissingBean
 		HttpTraceWebFilter httpTraceWebFilter(HttpTraceRepository repository, HttpExchangeTracer tracer,
-				HttpTraceProperties traceProperties) {
-			return new HttpTraceWebFilter(repository, tracer, traceProperties.getInclude());
+				HttpTraceProperties traceProperties, HttpTraceSampler sampler) {
+			return new HttpTraceWebFilter(repository, tracer, traceProperties.getInclude(), sampler);
 		}
 
 	}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -41,6 +41,8 @@ public class HttpTraceProperties {
 	 */
 	private Set<Include> include = new HashSet<>(Include.defaultIncludes());
 
+	private final Sampling sampling = new Sampling();
+
 	public Set<Include> getInclude() {
 		return this.include;
 	}
@@ -49,4 +51,39 @@ public class HttpTraceProperties {
 		this.include = include;
 	}
 
+	public Sampling getSampling() {
+		return this.sampling;
+	}
+
+	public static class Sampling {
+
+		/**
+		 * Probability, between 0.0 and 1.0, that a request-response exchange is traced.
+		 */
+		private double probability = 1.0;
+
+		/**
+		 * Maximum number of request-response exchanges that are traced each second. When
+		 * not set, the number of traced exchanges is not limited.
+		 */
+		private Integer rateLimit;
+
+		public double getProbability() {
+			return this.probability;
+		}
+
+		public void setProbability(double probability) {
+			this.probability = probability;
+		}
+
+		public Integer getRateLimit() {
+			return this.rateLimit;
+		}
+
+		public void setRateLimit(Integer rateLimit) {
+			this.rateLimit = rateLimit;
+		}
+
+	}
+
 }
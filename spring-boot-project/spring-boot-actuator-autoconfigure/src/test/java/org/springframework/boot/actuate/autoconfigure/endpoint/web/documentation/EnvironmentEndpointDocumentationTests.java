@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -47,6 +47,8 @@ import static org.springframework.restdocs.operation.preprocess.Preprocessors.pr
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.replacePattern;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -83,6 +85,27 @@ class EnvironmentEndpointDocumentationTests extends MockMvcEndpointDocumentation
 										.description("Origin of the property, if any.").optional())));
 	}
 
+	@Test
+	void filteredEnv() throws Exception {
+		this.mockMvc
+				.perform(get("/actuator/env").param("prefix", "com.example").param("page", "0").param("size", "10"))
+				.andExpect(status().isOk())
+				.andDo(document("env/filtered",
+						preprocessResponse(replacePattern(Pattern.compile(
+								"org/springframework/boot/actuate/autoconfigure/endpoint/web/documentation/"), "")),
+						requestParameters(
+								parameterWithName("pattern")
+										.description("Regular expression that property names must match.").optional(),
+								parameterWithName("prefix").description("Prefix that property names must start with.")
+										.optional(),
+								parameterWithName("page")
+										.description("Zero-based number of the page of matching properties.")
+										.optional(),
+								parameterWithName("size")
+										.description("Maximum number of properties in a page. Defaults to 100.")
+										.optional())));
+	}
+
 	@Test
 	void singlePropertyFromEnv() throws Exception {
 		this.mockMvc.perform(get("/actuator/env/com.example.cache.max-size")).andExpect(status().isOk()).andDo(document(
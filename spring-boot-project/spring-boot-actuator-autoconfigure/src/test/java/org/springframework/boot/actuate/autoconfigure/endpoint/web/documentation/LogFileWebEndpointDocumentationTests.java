@@ -27,6 +27,8 @@ import org.springframework.core.env.Environment;
 import org.springframework.restdocs.mockmvc.MockMvcRestDocumentation;
 import org.springframework.test.context.TestPropertySource;
 
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -51,6 +53,13 @@ class LogFileWebEndpointDocumentationTests extends MockMvcEndpointDocumentationT
 				.andExpect(status().isPartialContent()).andDo(MockMvcRestDocumentation.document("logfile/range"));
 	}
 
+	@Test
+	void logFileTail() throws Exception {
+		this.mockMvc.perform(get("/actuator/logfile").param("lines", "5")).andExpect(status().isOk())
+				.andDo(MockMvcRestDocumentation.document("logfile/tail", requestParameters(parameterWithName("lines")
+						.description("Number of lines to return from the end of the log file."))));
+	}
+
 	@Configuration(proxyBeanMethods = false)
 	@Import(BaseDocumentationConfiguration.class)
 	static class TestConfiguration {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,7 @@ package org.springframework.boot.actuate.autoconfigure.endpoint.web.documentatio
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -44,6 +45,8 @@ import static org.mockito.Mockito.verify;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -89,6 +92,23 @@ class LoggersEndpointDocumentationTests extends MockMvcEndpointDocumentationTest
 										.andWithPrefix("groups.*.", groupLevelFields)));
 	}
 
+	@Test
+	void pageOfLoggers() throws Exception {
+		given(this.loggingSystem.getSupportedLogLevels()).willReturn(EnumSet.allOf(LogLevel.class));
+		given(this.loggingSystem.getLoggerConfigurations("com.example"))
+				.willReturn(Arrays.asList(new LoggerConfiguration("com.example", LogLevel.DEBUG, LogLevel.DEBUG),
+						new LoggerConfiguration("com.example.web", null, LogLevel.DEBUG)));
+		this.mockMvc.perform(get("/actuator/loggers").param("prefix", "com.example").param("page", "0").param("size",
+				"50")).andExpect(status().isOk())
+				.andDo(MockMvcRestDocumentation.document("loggers/page", requestParameters(
+						parameterWithName("prefix").description("Prefix of the names of the loggers to retrieve.")
+								.optional(),
+						parameterWithName("page").description("Zero-based number of the page of loggers to retrieve.")
+								.optional(),
+						parameterWithName("size").description("Maximum number of loggers in a page. Defaults to 100.")
+								.optional())));
+	}
+
 	@Test
 	void logger() throws Exception {
 		given(this.loggingSystem.getLoggerConfiguration("com.example"))
@@ -127,8 +147,10 @@ class LoggersEndpointDocumentationTests extends MockMvcEndpointDocumentationTest
 								requestFields(fieldWithPath("configuredLevel").description(
 										"Level for the logger group. May be omitted to clear the level of the loggers.")
 										.optional())));
-		verify(this.loggingSystem).setLogLevel("test.member1", LogLevel.DEBUG);
-		verify(this.loggingSystem).setLogLevel("test.member2", LogLevel.DEBUG);
+		Map<String, LogLevel> levels = new LinkedHashMap<>();
+		levels.put("test.member1", LogLevel.DEBUG);
+		levels.put("test.member2", LogLevel.DEBUG);
+		verify(this.loggingSystem).setLogLevels(levels);
 		resetLogger();
 	}
 
@@ -26,6 +26,7 @@ import org.springframework.boot.actuate.autoconfigure.trace.http.HttpTraceProper
 import org.springframework.boot.actuate.trace.http.HttpExchangeTracer;
 import org.springframework.boot.actuate.trace.http.HttpTrace;
 import org.springframework.boot.actuate.trace.http.HttpTraceRepository;
+import org.springframework.boot.actuate.trace.http.HttpTraceSampler;
 import org.springframework.boot.actuate.trace.http.InMemoryHttpTraceRepository;
 import org.springframework.boot.actuate.trace.http.Include;
 import org.springframework.boot.actuate.web.trace.reactive.HttpTraceWebFilter;
@@ -99,6 +100,19 @@ class HttpTraceAutoConfigurationTests {
 				});
 	}
 
+	@Test
+	void configuresSampler() {
+		this.contextRunner.withUserConfiguration(HttpTraceRepositoryConfiguration.class)
+				.run((context) -> assertThat(context).hasSingleBean(HttpTraceSampler.class));
+	}
+
+	@Test
+	void samplerCanBeConfiguredUsingProperties() {
+		this.contextRunner.withUserConfiguration(HttpTraceRepositoryConfiguration.class)
+				.withPropertyValues("management.trace.http.sampling.probability=0")
+				.run((context) -> assertThat(context.getBean(HttpTraceSampler.class).sample()).isFalse());
+	}
+
 	@Test
 	void backsOffWhenDisabled() {
 		this.contextRunner.withUserConfiguration(HttpTraceRepositoryConfiguration.class)
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,13 +17,25 @@
 package org.springframework.boot.actuate.audit;
 
 import java.time.Instant;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.springframework.util.Assert;
 
 /**
- * In-memory {@link AuditEventRepository} implementation.
+ * In-memory {@link AuditEventRepository} implementation. Events are indexed by
+ * timestamp and by principal so that {@link #find(String, Instant, String) finding}
+ * events does not require a scan of every stored event. Once the repository's capacity
+ * has been reached, the events that were added first are discarded, regardless of their
+ * timestamps.
  *
  * @author Dave Syer
  * @author Phillip Webb
@@ -34,67 +46,109 @@ public class InMemoryAuditEventRepository implements AuditEventRepository {
 
 	private static final int DEFAULT_CAPACITY = 1000;
 
-	private final Object monitor = new Object();
+	private final AtomicLong sequence = new AtomicLong();
+
+	private final AtomicInteger size = new AtomicInteger();
+
+	private final ConcurrentNavigableMap<EventKey, AuditEvent> events = new ConcurrentSkipListMap<>();
+
+	private final Map<String, ConcurrentNavigableMap<EventKey, AuditEvent>> principalEvents = new ConcurrentHashMap<>();
 
 	/**
-	 * Circular buffer of the event with tail pointing to the last element.
+	 * Keys of the stored events in the order in which they were added.
 	 */
-	private AuditEvent[] events;
+	private final Queue<EventKey> insertionOrder = new ConcurrentLinkedQueue<>();
 
-	private volatile int tail = -1;
+	private volatile int capacity;
 
 	public InMemoryAuditEventRepository() {
 		this(DEFAULT_CAPACITY);
 	}
 
 	public InMemoryAuditEventRepository(int capacity) {
-		this.events = new AuditEvent[capacity];
+		this.capacity = capacity;
 	}
 
 	/**
-	 * Set the capacity of this event repository.
+	 * Set the capacity of this event repository. Any events that have already been
+	 * stored are discarded.
 	 * @param capacity the capacity
 	 */
 	public void setCapacity(int capacity) {
-		synchronized (this.monitor) {
-			this.events = new AuditEvent[capacity];
+		this.capacity = capacity;
+		while (!this.insertionOrder.isEmpty()) {
+			evictOldest();
 		}
 	}
 
 	@Override
 	public void add(AuditEvent event) {
 		Assert.notNull(event, "AuditEvent must not be null");
-		synchronized (this.monitor) {
-			this.tail = (this.tail + 1) % this.events.length;
-			this.events[this.tail] = event;
+		EventKey key = new EventKey(event.getTimestamp(), this.sequence.getAndIncrement());
+		this.principalEvents.compute(event.getPrincipal(), (principal, events) -> {
+			events = (events != null) ? events : new ConcurrentSkipListMap<>();
+			events.put(key, event);
+			return events;
+		});
+		this.events.put(key, event);
+		this.insertionOrder.add(key);
+		if (this.size.incrementAndGet() > this.capacity) {
+			evictOldest();
+		}
+	}
+
+	private void evictOldest() {
+		EventKey oldest = this.insertionOrder.poll();
+		if (oldest != null) {
+			AuditEvent event = this.events.remove(oldest);
+			this.size.decrementAndGet();
+			this.principalEvents.computeIfPresent(event.getPrincipal(), (principal, events) -> {
+				events.remove(oldest);
+				return (!events.isEmpty()) ? events : null;
+			});
 		}
 	}
 
 	@Override
 	public List<AuditEvent> find(String principal, Instant after, String type) {
-		LinkedList<AuditEvent> events = new LinkedList<>();
-		synchronized (this.monitor) {
-			for (int i = 0; i < this.events.length; i++) {
-				AuditEvent event = resolveTailEvent(i);
-				if (event != null && isMatch(principal, after, type, event)) {
-					events.addFirst(event);
-				}
+		ConcurrentNavigableMap<EventKey, AuditEvent> events = (principal != null)
+				? this.principalEvents.get(principal) : this.events;
+		if (events == null) {
+			return new ArrayList<>();
+		}
+		if (after != null) {
+			events = events.tailMap(new EventKey(after, Long.MAX_VALUE), false);
+		}
+		List<AuditEvent> result = new ArrayList<>();
+		for (AuditEvent event : events.values()) {
+			if (type == null || event.getType().equals(type)) {
+				result.add(event);
 			}
 		}
-		return events;
+		return result;
 	}
 
-	private boolean isMatch(String principal, Instant after, String type, AuditEvent event) {
-		boolean match = true;
-		match = match && (principal == null || event.getPrincipal().equals(principal));
-		match = match && (after == null || event.getTimestamp().isAfter(after));
-		match = match && (type == null || event.getType().equals(type));
-		return match;
-	}
+	/**
+	 * Key used to order events by their timestamp and then by the order in which they
+	 * were added.
+	 */
+	private static final class EventKey implements Comparable<EventKey> {
+
+		private final Instant timestamp;
+
+		private final long sequence;
+
+		EventKey(Instant timestamp, long sequence) {
+			this.timestamp = timestamp;
+			this.sequence = sequence;
+		}
+
+		@Override
+		public int compareTo(EventKey other) {
+			int result = this.timestamp.compareTo(other.timestamp);
+			return (result != 0) ? result : Long.compare(this.sequence, other.sequence);
+		}
 
-	private AuditEvent resolveTailEvent(int offset) {
-		int index = ((this.tail + this.events.length - offset) % this.events.length);
-		return this.events[index];
 	}
 
 }
@@ -17,7 +17,9 @@
 package org.springframework.boot.actuate.endpoint;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -52,7 +54,11 @@ public class Sanitizer {
 
 	private static final Pattern URI_USERINFO_PATTERN = Pattern.compile("\\[?[A-Za-z]+://.+:(.*)@.+$");
 
-	private Pattern[] keysToSanitize;
+	private KeyMatcher[] keysToSanitize;
+
+	private SuffixTrie suffixes;
+
+	private int[] patternIndexes;
 
 	static {
 		DEFAULT_KEYS_TO_SANITIZE.addAll(URI_USERINFO_KEYS);
@@ -73,10 +79,11 @@ public class Sanitizer {
 	 */
 	public void setKeysToSanitize(String... keysToSanitize) {
 		Assert.notNull(keysToSanitize, "KeysToSanitize must not be null");
-		this.keysToSanitize = new Pattern[keysToSanitize.length];
+		this.keysToSanitize = new KeyMatcher[keysToSanitize.length];
 		for (int i = 0; i < keysToSanitize.length; i++) {
-			this.keysToSanitize[i] = getPattern(keysToSanitize[i]);
+			this.keysToSanitize[i] = getKeyMatcher(keysToSanitize[i]);
 		}
+		indexKeyMatchers();
 	}
 
 	/**
@@ -90,15 +97,40 @@ public class Sanitizer {
 		int existingKeys = this.keysToSanitize.length;
 		this.keysToSanitize = Arrays.copyOf(this.keysToSanitize, this.keysToSanitize.length + keysToSanitize.length);
 		for (int i = 0; i < keysToSanitize.length; i++) {
-			this.keysToSanitize[i + existingKeys] = getPattern(keysToSanitize[i]);
+			this.keysToSanitize[i + existingKeys] = getKeyMatcher(keysToSanitize[i]);
+		}
+		indexKeyMatchers();
+	}
+
+	/**
+	 * Index the key matchers so that all simple suffixes can be checked in a single pass
+	 * over a key, leaving only the regular expressions to be tried one by one.
+	 */
+	private void indexKeyMatchers() {
+		SuffixTrie suffixes = new SuffixTrie();
+		int[] patternIndexes = new int[this.keysToSanitize.length];
+		int patterns = 0;
+		for (int i = 0; i < this.keysToSanitize.length; i++) {
+			KeyMatcher keyMatcher = this.keysToSanitize[i];
+			if (keyMatcher instanceof SuffixKeyMatcher) {
+				suffixes.add(((SuffixKeyMatcher) keyMatcher).suffix, i);
+			}
+			else {
+				patternIndexes[patterns++] = i;
+			}
 		}
+		this.suffixes = suffixes;
+		this.patternIndexes = Arrays.copyOf(patternIndexes, patterns);
 	}
 
-	private Pattern getPattern(String value) {
+	private KeyMatcher getKeyMatcher(String value) {
 		if (isRegex(value)) {
-			return Pattern.compile(value, Pattern.CASE_INSENSITIVE);
+			return new PatternKeyMatcher(Pattern.compile(value, Pattern.CASE_INSENSITIVE));
 		}
-		return Pattern.compile(".*" + value + "$", Pattern.CASE_INSENSITIVE);
+		if (isLiteral(value)) {
+			return new SuffixKeyMatcher(value);
+		}
+		return new PatternKeyMatcher(Pattern.compile(".*" + value + "$", Pattern.CASE_INSENSITIVE));
 	}
 
 	private boolean isRegex(String value) {
@@ -110,6 +142,16 @@ public class Sanitizer {
 		return false;
 	}
 
+	private boolean isLiteral(String value) {
+		for (int i = 0; i < value.length(); i++) {
+			char ch = value.charAt(i);
+			if (!Character.isLetterOrDigit(ch) && ch != '_' && ch != '-') {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Sanitize the given value if necessary.
 	 * @param key the key to sanitize
@@ -120,24 +162,27 @@ public class Sanitizer {
 		if (value == null) {
 			return null;
 		}
-		for (Pattern pattern : this.keysToSanitize) {
-			if (pattern.matcher(key).matches()) {
-				if (keyIsUriWithUserInfo(pattern)) {
-					return sanitizeUris(value.toString());
-				}
-				return "******";
-			}
+		int index = findFirstMatch(key);
+		if (index == -1) {
+			return value;
 		}
-		return value;
+		if (this.keysToSanitize[index].isUriWithUserInfo()) {
+			return sanitizeUris(value.toString());
+		}
+		return "******";
 	}
 
-	private boolean keyIsUriWithUserInfo(Pattern pattern) {
-		for (String uriKey : URI_USERINFO_KEYS) {
-			if (pattern.matcher(uriKey).matches()) {
-				return true;
+	private int findFirstMatch(String key) {
+		int index = this.suffixes.findFirstMatch(key);
+		for (int patternIndex : this.patternIndexes) {
+			if (index != -1 && patternIndex > index) {
+				break;
+			}
+			if (this.keysToSanitize[patternIndex].matches(key)) {
+				return patternIndex;
 			}
 		}
-		return false;
+		return index;
 	}
 
 	private Object sanitizeUris(String value) {
@@ -153,4 +198,97 @@ public class Sanitizer {
 		return value;
 	}
 
+	/**
+	 * Matches keys against one of the configured keys to sanitize.
+	 */
+	private abstract static class KeyMatcher {
+
+		private Boolean uriWithUserInfo;
+
+		abstract boolean matches(String key);
+
+		boolean isUriWithUserInfo() {
+			if (this.uriWithUserInfo == null) {
+				this.uriWithUserInfo = URI_USERINFO_KEYS.stream().anyMatch(this::matches);
+			}
+			return this.uriWithUserInfo;
+		}
+
+	}
+
+	/**
+	 * {@link KeyMatcher} for a simple string that the key must end with.
+	 */
+	private static class SuffixKeyMatcher extends KeyMatcher {
+
+		private final String suffix;
+
+		SuffixKeyMatcher(String suffix) {
+			this.suffix = suffix;
+		}
+
+		@Override
+		boolean matches(String key) {
+			int offset = key.length() - this.suffix.length();
+			return offset >= 0 && key.regionMatches(true, offset, this.suffix, 0, this.suffix.length());
+		}
+
+	}
+
+	/**
+	 * Trie of the reversed {@link SuffixKeyMatcher} suffixes that finds the first
+	 * configured suffix that a key ends with by walking the key backwards once.
+	 */
+	private static class SuffixTrie {
+
+		private final Map<Character, SuffixTrie> children = new HashMap<>();
+
+		private int index = -1;
+
+		void add(String suffix, int index) {
+			SuffixTrie node = this;
+			for (int i = suffix.length() - 1; i >= 0; i--) {
+				node = node.children.computeIfAbsent(normalize(suffix.charAt(i)), (ch) -> new SuffixTrie());
+			}
+			if (node.index == -1) {
+				node.index = index;
+			}
+		}
+
+		int findFirstMatch(String key) {
+			int result = this.index;
+			SuffixTrie node = this;
+			for (int i = key.length() - 1; i >= 0 && node != null; i--) {
+				node = node.children.get(normalize(key.charAt(i)));
+				if (node != null && node.index != -1 && (result == -1 || node.index < result)) {
+					result = node.index;
+				}
+			}
+			return result;
+		}
+
+		private static char normalize(char ch) {
+			return Character.toLowerCase(Character.toUpperCase(ch));
+		}
+
+	}
+
+	/**
+	 * {@link KeyMatcher} for a regular expression that the key must match.
+	 */
+	private static class PatternKeyMatcher extends KeyMatcher {
+
+		private final Pattern pattern;
+
+		PatternKeyMatcher(Pattern pattern) {
+			this.pattern = pattern;
+		}
+
+		@Override
+		boolean matches(String key) {
+			return this.pattern.matcher(key).matches();
+		}
+
+	}
+
 }
@@ -21,12 +21,14 @@ import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
 import org.springframework.boot.actuate.endpoint.Sanitizer;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
@@ -64,6 +66,8 @@ import org.springframework.util.SystemPropertyUtils;
 @Endpoint(id = "env")
 public class EnvironmentEndpoint {
 
+	private static final int DEFAULT_PAGE_SIZE = 100;
+
 	private final Sanitizer sanitizer = new Sanitizer();
 
 	private final Environment environment;
@@ -80,12 +84,56 @@ public class EnvironmentEndpoint {
 		this.sanitizer.keysToSanitize(keysToSanitize);
 	}
 
-	@ReadOperation
 	public EnvironmentDescriptor environment(@Nullable String pattern) {
+		return environment(pattern, null, null, null);
+	}
+
+	/**
+	 * Describe the environment, limited to the properties whose names match the given
+	 * {@code pattern} and start with the given {@code prefix}. When a {@code page} or
+	 * {@code size} is given, only that page of the matching properties, counted across
+	 * all property sources in order of precedence, is described. Every property source
+	 * is listed regardless.
+	 * @param pattern a regular expression that property names must match or
+	 * {@code null}
+	 * @param prefix a prefix that property names must start with or {@code null}
+	 * @param page the zero-based page number or {@code null} for the first page
+	 * @param size the page size or {@code null} for the default size when a page is
+	 * requested
+	 * @return the environment descriptor
+	 * @since 2.5.0
+	 */
+	@ReadOperation
+	public EnvironmentDescriptor environment(@Nullable String pattern, @Nullable String prefix,
+			@Nullable Integer page, @Nullable Integer size) {
+		Predicate<String> propertyNamePredicate = (name) -> true;
+		if (StringUtils.hasText(prefix)) {
+			propertyNamePredicate = (name) -> name.startsWith(prefix);
+		}
 		if (StringUtils.hasText(pattern)) {
-			return getEnvironmentDescriptor(Pattern.compile(pattern).asPredicate());
+			propertyNamePredicate = propertyNamePredicate.and(Pattern.compile(pattern).asPredicate());
+		}
+		return getEnvironmentDescriptor(propertyNamePredicate.and(getPageFilter(page, size)));
+	}
+
+	private Predicate<String> getPageFilter(Integer page, Integer size) {
+		if (page == null && size == null) {
+			return (name) -> true;
+		}
+		int pageNumber = (page != null) ? page : 0;
+		int pageSize = (size != null) ? size : DEFAULT_PAGE_SIZE;
+		if (pageNumber < 0 || pageSize < 1) {
+			throw new InvalidEndpointRequestException(
+					"Page must not be negative and size must be positive but were " + pageNumber + " and " + pageSize,
+					"Page must not be negative and size must be positive");
 		}
-		return getEnvironmentDescriptor((name) -> true);
+		long first = (long) pageNumber * pageSize;
+		long last = first + pageSize;
+		AtomicLong index = new AtomicLong();
+		return (name) -> {
+			long current = index.getAndIncrement();
+			return current >= first && current < last;
+		};
 	}
 
 	@ReadOperation
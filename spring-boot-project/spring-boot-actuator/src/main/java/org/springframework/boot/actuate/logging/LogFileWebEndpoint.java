@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,16 +17,26 @@
 package org.springframework.boot.actuate.logging;
 
 import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
 import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
 import org.springframework.boot.logging.LogFile;
+import org.springframework.core.io.AbstractResource;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
 
 /**
  * Web {@link Endpoint @Endpoint} that provides access to an application's log file.
@@ -41,6 +51,8 @@ public class LogFileWebEndpoint {
 
 	private static final Log logger = LogFactory.getLog(LogFileWebEndpoint.class);
 
+	private static final int TAIL_BUFFER_SIZE = 8192;
+
 	private File externalFile;
 
 	private final LogFile logFile;
@@ -50,13 +62,75 @@ public class LogFileWebEndpoint {
 		this.logFile = logFile;
 	}
 
-	@ReadOperation(produces = "text/plain; charset=UTF-8")
 	public Resource logFile() {
+		return logFile(null);
+	}
+
+	/**
+	 * Return the log file or, when {@code lines} is specified, only its last lines.
+	 * @param lines the number of lines to return from the end of the log file or
+	 * {@code null} to return the entire file
+	 * @return the log file resource or {@code null}
+	 * @since 2.5.0
+	 */
+	@ReadOperation(produces = "text/plain; charset=UTF-8")
+	public Resource logFile(@Nullable Integer lines) {
 		Resource logFileResource = getLogFileResource();
 		if (logFileResource == null || !logFileResource.isReadable()) {
 			return null;
 		}
-		return logFileResource;
+		if (lines == null) {
+			return logFileResource;
+		}
+		if (lines < 0) {
+			throw new InvalidEndpointRequestException("Lines must not be negative", "Lines must not be negative");
+		}
+		try {
+			return tail(logFileResource.getFile(), lines);
+		}
+		catch (IOException ex) {
+			logger.debug("Failed to read the end of the log file", ex);
+			return null;
+		}
+	}
+
+	private Resource tail(File file, int lines) throws IOException {
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			long end = channel.size();
+			long start = findStartOfLastLines(channel, end, lines);
+			return new FileRegionResource(file, start, end - start, "Last " + lines + " lines of " + file);
+		}
+	}
+
+	private long findStartOfLastLines(FileChannel channel, long end, int lines) throws IOException {
+		if (lines == 0) {
+			return end;
+		}
+		ByteBuffer buffer = ByteBuffer.allocate(TAIL_BUFFER_SIZE);
+		int newLines = 0;
+		long position = end;
+		while (position > 0) {
+			int length = (int) Math.min(buffer.capacity(), position);
+			position -= length;
+			buffer.clear();
+			buffer.limit(length);
+			read(channel, buffer, position);
+			for (int i = length - 1; i >= 0; i--) {
+				long offset = position + i;
+				if (buffer.get(i) == '\n' && offset != end - 1 && ++newLines == lines) {
+					return offset + 1;
+				}
+			}
+		}
+		return 0;
+	}
+
+	private void read(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer, position + buffer.position()) == -1) {
+				return;
+			}
+		}
 	}
 
 	private Resource getLogFileResource() {
@@ -70,4 +144,111 @@ public class LogFileWebEndpoint {
 		return new FileSystemResource(this.logFile.toString());
 	}
 
+	/**
+	 * {@link Resource} for a region of a file that streams its content rather than
+	 * loading it into memory.
+	 */
+	private static final class FileRegionResource extends AbstractResource {
+
+		private final File file;
+
+		private final long position;
+
+		private final long count;
+
+		private final String description;
+
+		FileRegionResource(File file, long position, long count, String description) {
+			this.file = file;
+			this.position = position;
+			this.count = count;
+			this.description = description;
+		}
+
+		@Override
+		public boolean exists() {
+			return this.file.exists();
+		}
+
+		@Override
+		public long contentLength() {
+			return this.count;
+		}
+
+		@Override
+		public InputStream getInputStream() throws IOException {
+			FileChannel channel = FileChannel.open(this.file.toPath(), StandardOpenOption.READ);
+			try {
+				channel.position(this.position);
+				return new LimitedInputStream(Channels.newInputStream(channel), this.count);
+			}
+			catch (IOException ex) {
+				channel.close();
+				throw ex;
+			}
+		}
+
+		@Override
+		public String getDescription() {
+			return this.description;
+		}
+
+	}
+
+	/**
+	 * {@link InputStream} that returns at most a given number of bytes so that content
+	 * appended to the file after its region was determined is not included.
+	 */
+	private static final class LimitedInputStream extends FilterInputStream {
+
+		private long remaining;
+
+		LimitedInputStream(InputStream in, long limit) {
+			super(in);
+			this.remaining = limit;
+		}
+
+		@Override
+		public int read() throws IOException {
+			if (this.remaining <= 0) {
+				return -1;
+			}
+			int result = super.read();
+			if (result != -1) {
+				this.remaining--;
+			}
+			return result;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (this.remaining <= 0) {
+				return -1;
+			}
+			int result = super.read(b, off, (int) Math.min(len, this.remaining));
+			if (result > 0) {
+				this.remaining -= result;
+			}
+			return result;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			long skipped = super.skip(Math.min(n, this.remaining));
+			this.remaining -= skipped;
+			return skipped;
+		}
+
+		@Override
+		public int available() throws IOException {
+			return (int) Math.min(super.available(), this.remaining);
+		}
+
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+
+	}
+
 }
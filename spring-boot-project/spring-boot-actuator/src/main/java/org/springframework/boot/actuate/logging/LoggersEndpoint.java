@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,7 +16,6 @@
 
 package org.springframework.boot.actuate.logging;
 
-import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -25,6 +24,7 @@ import java.util.NavigableSet;
 import java.util.Set;
 import java.util.TreeSet;
 
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
 import org.springframework.boot.actuate.endpoint.annotation.Selector;
@@ -36,6 +36,7 @@ import org.springframework.boot.logging.LoggerGroups;
 import org.springframework.boot.logging.LoggingSystem;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 
 /**
  * {@link Endpoint @Endpoint} to expose a collection of {@link LoggerConfiguration}s.
@@ -48,6 +49,8 @@ import org.springframework.util.Assert;
 @Endpoint(id = "loggers")
 public class LoggersEndpoint {
 
+	private static final int DEFAULT_PAGE_SIZE = 100;
+
 	private final LoggingSystem loggingSystem;
 
 	private final LoggerGroups loggerGroups;
@@ -64,19 +67,50 @@ public class LoggersEndpoint {
 		this.loggerGroups = loggerGroups;
 	}
 
-	@ReadOperation
 	public Map<String, Object> loggers() {
-		Collection<LoggerConfiguration> configurations = this.loggingSystem.getLoggerConfigurations();
+		return loggers(null, null, null);
+	}
+
+	/**
+	 * Return the levels, loggers and groups, optionally restricted to the loggers whose
+	 * name starts with the given prefix and to a single page of those loggers.
+	 * @param prefix the logger name prefix or {@code null} for all loggers
+	 * @param page the zero-based page number or {@code null} for the first page
+	 * @param size the page size or {@code null} for the default size when a page is
+	 * requested
+	 * @return the levels, loggers and groups
+	 * @since 2.5.0
+	 */
+	@ReadOperation
+	public Map<String, Object> loggers(@Nullable String prefix, @Nullable Integer page, @Nullable Integer size) {
+		List<LoggerConfiguration> configurations = StringUtils.hasLength(prefix)
+				? this.loggingSystem.getLoggerConfigurations(prefix) : this.loggingSystem.getLoggerConfigurations();
 		if (configurations == null) {
 			return Collections.emptyMap();
 		}
 		Map<String, Object> result = new LinkedHashMap<>();
 		result.put("levels", getLevels());
-		result.put("loggers", getLoggers(configurations));
+		result.put("loggers", getLoggers(getPage(configurations, page, size)));
 		result.put("groups", getGroups());
 		return result;
 	}
 
+	private List<LoggerConfiguration> getPage(List<LoggerConfiguration> configurations, Integer page, Integer size) {
+		if (page == null && size == null) {
+			return configurations;
+		}
+		int pageNumber = (page != null) ? page : 0;
+		int pageSize = (size != null) ? size : DEFAULT_PAGE_SIZE;
+		if (pageNumber < 0 || pageSize < 1) {
+			throw new InvalidEndpointRequestException(
+					"Page must not be negative and size must be positive but were " + pageNumber + " and " + pageSize,
+					"Page must not be negative and size must be positive");
+		}
+		int from = (int) Math.min((long) pageNumber * pageSize, configurations.size());
+		int to = (int) Math.min((long) from + pageSize, configurations.size());
+		return configurations.subList(from, to);
+	}
+
 	private Map<String, LoggerLevels> getGroups() {
 		Map<String, LoggerLevels> groups = new LinkedHashMap<>();
 		this.loggerGroups.forEach((group) -> groups.put(group.getName(),
@@ -100,7 +134,7 @@ public class LoggersEndpoint {
 		Assert.notNull(name, "Name must not be empty");
 		LoggerGroup group = this.loggerGroups.get(name);
 		if (group != null && group.hasMembers()) {
-			group.configureLogLevel(configuredLevel, this.loggingSystem::setLogLevel);
+			group.configureLogLevel(configuredLevel, this.loggingSystem::setLogLevels);
 			return;
 		}
 		this.loggingSystem.setLogLevel(name, configuredLevel);
@@ -111,7 +145,7 @@ public class LoggersEndpoint {
 		return new TreeSet<>(levels).descendingSet();
 	}
 
-	private Map<String, LoggerLevels> getLoggers(Collection<LoggerConfiguration> configurations) {
+	private Map<String, LoggerLevels> getLoggers(List<LoggerConfiguration> configurations) {
 		Map<String, LoggerLevels> loggers = new LinkedHashMap<>(configurations.size());
 		for (LoggerConfiguration configuration : configurations) {
 			loggers.put(configuration.getName(), new SingleLoggerLevels(configuration));
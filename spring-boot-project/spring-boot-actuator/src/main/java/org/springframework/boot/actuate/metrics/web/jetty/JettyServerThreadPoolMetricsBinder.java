@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,14 +21,10 @@ import java.util.Collections;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.binder.jetty.JettyServerThreadPoolMetrics;
+import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.util.thread.ThreadPool;
 
 import org.springframework.boot.context.event.ApplicationStartedEvent;
-import org.springframework.boot.web.context.WebServerApplicationContext;
-import org.springframework.boot.web.embedded.jetty.JettyWebServer;
-import org.springframework.boot.web.server.WebServer;
-import org.springframework.context.ApplicationContext;
-import org.springframework.context.ApplicationListener;
 
 /**
  * Binds {@link JettyServerThreadPoolMetrics} in response to the
@@ -37,7 +33,7 @@ import org.springframework.context.ApplicationListener;
  * @author Andy Wilkinson
  * @since 2.1.0
  */
-public class JettyServerThreadPoolMetricsBinder implements ApplicationListener<ApplicationStartedEvent> {
+public class JettyServerThreadPoolMetricsBinder extends AbstractJettyMetricsBinder {
 
 	private final MeterRegistry meterRegistry;
 
@@ -53,22 +49,11 @@ public class JettyServerThreadPoolMetricsBinder implements ApplicationListener<A
 	}
 
 	@Override
-	public void onApplicationEvent(ApplicationStartedEvent event) {
-		ApplicationContext applicationContext = event.getApplicationContext();
-		ThreadPool threadPool = findThreadPool(applicationContext);
+	protected void bindMetrics(Server server) {
+		ThreadPool threadPool = server.getThreadPool();
 		if (threadPool != null) {
 			new JettyServerThreadPoolMetrics(threadPool, this.tags).bindTo(this.meterRegistry);
 		}
 	}
 
-	private ThreadPool findThreadPool(ApplicationContext applicationContext) {
-		if (applicationContext instanceof WebServerApplicationContext) {
-			WebServer webServer = ((WebServerApplicationContext) applicationContext).getWebServer();
-			if (webServer instanceof JettyWebServer) {
-				return ((JettyWebServer) webServer).getServer().getThreadPool();
-			}
-		}
-		return null;
-	}
-
 }
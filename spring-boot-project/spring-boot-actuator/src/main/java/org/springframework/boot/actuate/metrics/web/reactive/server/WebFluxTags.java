@@ -18,14 +18,17 @@ package org.springframework.boot.actuate.metrics.web.reactive.server;
 
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.regex.Pattern;
 
 import io.micrometer.core.instrument.Tag;
 
 import org.springframework.boot.actuate.metrics.http.Outcome;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.StringUtils;
 import org.springframework.web.reactive.HandlerMapping;
 import org.springframework.web.server.ServerWebExchange;
@@ -58,6 +61,25 @@ public final class WebFluxTags {
 	private static final Set<String> DISCONNECTED_CLIENT_EXCEPTIONS = new HashSet<>(
 			Arrays.asList("AbortedException", "ClientAbortException", "EOFException", "EofException"));
 
+	private static final Tag[] METHOD_TAGS;
+
+	private static final Tag[] STATUS_TAGS;
+
+	private static final Map<String, Tag> URI_TAGS = new ConcurrentReferenceHashMap<>();
+
+	static {
+		HttpMethod[] methods = HttpMethod.values();
+		METHOD_TAGS = new Tag[methods.length];
+		for (HttpMethod method : methods) {
+			METHOD_TAGS[method.ordinal()] = Tag.of("method", method.name());
+		}
+		HttpStatus[] statuses = HttpStatus.values();
+		STATUS_TAGS = new Tag[statuses.length];
+		for (HttpStatus status : statuses) {
+			STATUS_TAGS[status.ordinal()] = Tag.of("status", String.valueOf(status.value()));
+		}
+	}
+
 	private WebFluxTags() {
 	}
 
@@ -70,7 +92,9 @@ public final class WebFluxTags {
 	 * @return the method tag whose value is a capitalized method (e.g. GET).
 	 */
 	public static Tag method(ServerWebExchange exchange) {
-		return Tag.of("method", exchange.getRequest().getMethodValue());
+		HttpMethod method = exchange.getRequest().getMethod();
+		return (method != null) ? METHOD_TAGS[method.ordinal()]
+				: Tag.of("method", exchange.getRequest().getMethodValue());
 	}
 
 	/**
@@ -84,7 +108,7 @@ public final class WebFluxTags {
 		if (status == null) {
 			status = HttpStatus.OK;
 		}
-		return Tag.of("status", String.valueOf(status.value()));
+		return STATUS_TAGS[status.ordinal()];
 	}
 
 	/**
@@ -120,7 +144,7 @@ public final class WebFluxTags {
 			if (patternString.isEmpty()) {
 				return URI_ROOT;
 			}
-			return Tag.of("uri", patternString);
+			return getUriTag(patternString);
 		}
 		HttpStatus status = exchange.getResponse().getStatusCode();
 		if (status != null) {
@@ -166,6 +190,15 @@ public final class WebFluxTags {
 		return EXCEPTION_NONE;
 	}
 
+	private static Tag getUriTag(String pattern) {
+		Tag tag = URI_TAGS.get(pattern);
+		if (tag == null) {
+			tag = Tag.of("uri", pattern);
+			URI_TAGS.put(pattern, tag);
+		}
+		return tag;
+	}
+
 	/**
 	 * Creates an {@code outcome} tag based on the response status of the given
 	 * {@code exchange}.
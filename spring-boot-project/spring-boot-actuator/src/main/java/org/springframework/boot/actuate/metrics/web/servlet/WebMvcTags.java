@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package org.springframework.boot.actuate.metrics.web.servlet;
 
+import java.util.Map;
 import java.util.regex.Pattern;
 
 import javax.servlet.http.HttpServletRequest;
@@ -24,7 +25,9 @@ import javax.servlet.http.HttpServletResponse;
 import io.micrometer.core.instrument.Tag;
 
 import org.springframework.boot.actuate.metrics.http.Outcome;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.StringUtils;
 import org.springframework.web.servlet.HandlerMapping;
 import org.springframework.web.util.pattern.PathPattern;
@@ -57,10 +60,26 @@ public final class WebMvcTags {
 
 	private static final Tag METHOD_UNKNOWN = Tag.of("method", "UNKNOWN");
 
-	private static final Pattern TRAILING_SLASH_PATTERN = Pattern.compile("/$");
-
 	private static final Pattern MULTIPLE_SLASH_PATTERN = Pattern.compile("//+");
 
+	private static final Tag[] METHOD_TAGS;
+
+	private static final Tag[] STATUS_TAGS;
+
+	private static final Map<String, Tag> URI_TAGS = new ConcurrentReferenceHashMap<>();
+
+	static {
+		HttpMethod[] methods = HttpMethod.values();
+		METHOD_TAGS = new Tag[methods.length];
+		for (HttpMethod method : methods) {
+			METHOD_TAGS[method.ordinal()] = Tag.of("method", method.name());
+		}
+		STATUS_TAGS = new Tag[600];
+		for (HttpStatus status : HttpStatus.values()) {
+			STATUS_TAGS[status.value()] = Tag.of("status", Integer.toString(status.value()));
+		}
+	}
+
 	private WebMvcTags() {
 	}
 
@@ -71,7 +90,12 @@ public final class WebMvcTags {
 	 * @return the method tag whose value is a capitalized method (e.g. GET).
 	 */
 	public static Tag method(HttpServletRequest request) {
-		return (request != null) ? Tag.of("method", request.getMethod()) : METHOD_UNKNOWN;
+		if (request == null) {
+			return METHOD_UNKNOWN;
+		}
+		String method = request.getMethod();
+		HttpMethod httpMethod = HttpMethod.resolve(method);
+		return (httpMethod != null) ? METHOD_TAGS[httpMethod.ordinal()] : Tag.of("method", method);
 	}
 
 	/**
@@ -80,7 +104,12 @@ public final class WebMvcTags {
 	 * @return the status tag derived from the status of the response
 	 */
 	public static Tag status(HttpServletResponse response) {
-		return (response != null) ? Tag.of("status", Integer.toString(response.getStatus())) : STATUS_UNKNOWN;
+		if (response == null) {
+			return STATUS_UNKNOWN;
+		}
+		int status = response.getStatus();
+		Tag tag = (status >= 0 && status < STATUS_TAGS.length) ? STATUS_TAGS[status] : null;
+		return (tag != null) ? tag : Tag.of("status", Integer.toString(status));
 	}
 
 	/**
@@ -113,12 +142,12 @@ public final class WebMvcTags {
 			String pattern = getMatchingPattern(request);
 			if (pattern != null) {
 				if (ignoreTrailingSlash && pattern.length() > 1) {
-					pattern = TRAILING_SLASH_PATTERN.matcher(pattern).replaceAll("");
+					pattern = removeTrailingSlash(pattern);
 				}
 				if (pattern.isEmpty()) {
 					return URI_ROOT;
 				}
-				return Tag.of("uri", pattern);
+				return getUriTag(pattern);
 			}
 			if (response != null) {
 				HttpStatus status = extractStatus(response);
@@ -159,8 +188,23 @@ public final class WebMvcTags {
 	private static String getPathInfo(HttpServletRequest request) {
 		String pathInfo = request.getPathInfo();
 		String uri = StringUtils.hasText(pathInfo) ? pathInfo : "/";
-		uri = MULTIPLE_SLASH_PATTERN.matcher(uri).replaceAll("/");
-		return TRAILING_SLASH_PATTERN.matcher(uri).replaceAll("");
+		if (uri.contains("//")) {
+			uri = MULTIPLE_SLASH_PATTERN.matcher(uri).replaceAll("/");
+		}
+		return removeTrailingSlash(uri);
+	}
+
+	private static String removeTrailingSlash(String text) {
+		return text.endsWith("/") ? text.substring(0, text.length() - 1) : text;
+	}
+
+	private static Tag getUriTag(String pattern) {
+		Tag tag = URI_TAGS.get(pattern);
+		if (tag == null) {
+			tag = Tag.of("uri", pattern);
+			URI_TAGS.put(pattern, tag);
+		}
+		return tag;
 	}
 
 	/**
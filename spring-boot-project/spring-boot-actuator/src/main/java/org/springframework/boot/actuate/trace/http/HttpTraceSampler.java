@@ -0,0 +1,95 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.trace.http;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.util.Assert;
+
+/**
+ * Decides whether an HTTP exchange should be traced. Exchanges can be sampled
+ * probabilistically and the number of exchanges that are traced each second can be
+ * limited. Sampling decisions do not require any locking.
+ *
+ * @author agent
+ * @since 2.5.0
+ */
+public class HttpTraceSampler {
+
+	/**
+	 * A sampler that traces every exchange.
+	 */
+	public static final HttpTraceSampler ALWAYS = new HttpTraceSampler(1.0, -1);
+
+	private static final long COUNT_MASK = 0xFFFFFFFFL;
+
+	private final double probability;
+
+	private final int rateLimit;
+
+	private final LongSupplier nanoTime;
+
+	private final AtomicLong window = new AtomicLong();
+
+	/**
+	 * Create a new {@link HttpTraceSampler} instance.
+	 * @param probability the probability, between 0.0 and 1.0, that an exchange will be
+	 * traced
+	 * @param rateLimit maximum number of exchanges that will be traced each second or
+	 * {@code -1} if the rate should not be limited
+	 */
+	public HttpTraceSampler(double probability, int rateLimit) {
+		this(probability, rateLimit, System::nanoTime);
+	}
+
+	HttpTraceSampler(double probability, int rateLimit, LongSupplier nanoTime) {
+		Assert.isTrue(probability >= 0.0 && probability <= 1.0, "Probability must be between 0.0 and 1.0");
+		Assert.isTrue(rateLimit >= -1, "Rate limit must be -1 or greater");
+		this.probability = probability;
+		this.rateLimit = rateLimit;
+		this.nanoTime = nanoTime;
+	}
+
+	/**
+	 * Return whether the current exchange should be traced.
+	 * @return {@code true} if the exchange should be traced
+	 */
+	public boolean sample() {
+		if (this.probability < 1.0 && ThreadLocalRandom.current().nextDouble() >= this.probability) {
+			return false;
+		}
+		return this.rateLimit < 0 || acquire();
+	}
+
+	private boolean acquire() {
+		long second = TimeUnit.NANOSECONDS.toSeconds(this.nanoTime.getAsLong()) & COUNT_MASK;
+		while (true) {
+			long current = this.window.get();
+			long count = ((current >>> 32) != second) ? 0 : (current & COUNT_MASK);
+			if (count >= this.rateLimit) {
+				return false;
+			}
+			if (this.window.compareAndSet(current, (second << 32) | (count + 1))) {
+				return true;
+			}
+		}
+	}
+
+}
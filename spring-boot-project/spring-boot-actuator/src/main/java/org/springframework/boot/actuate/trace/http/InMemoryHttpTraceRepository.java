@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,11 +18,16 @@ package org.springframework.boot.actuate.trace.http;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.springframework.util.Assert;
 
 /**
- * In-memory implementation of {@link HttpTraceRepository}.
+ * In-memory implementation of {@link HttpTraceRepository}. Traces are stored in a
+ * preallocated ring buffer so that {@link #add(HttpTrace) adding} a trace does not
+ * require any locking.
  *
  * @author Dave Syer
  * @author Olivier Bourgain
@@ -30,52 +35,149 @@ import java.util.List;
  */
 public class InMemoryHttpTraceRepository implements HttpTraceRepository {
 
-	private int capacity = 100;
+	private static final int DEFAULT_CAPACITY = 100;
 
-	private boolean reverse = true;
+	private volatile boolean reverse = true;
 
-	private final List<HttpTrace> traces = new LinkedList<>();
+	private volatile RingBuffer traces = new RingBuffer(DEFAULT_CAPACITY);
 
 	/**
 	 * Flag to say that the repository lists traces in reverse order.
 	 * @param reverse flag value (default true)
 	 */
 	public void setReverse(boolean reverse) {
-		synchronized (this.traces) {
-			this.reverse = reverse;
-		}
+		this.reverse = reverse;
 	}
 
 	/**
 	 * Set the capacity of the in-memory repository.
 	 * @param capacity the capacity
 	 */
-	public void setCapacity(int capacity) {
-		synchronized (this.traces) {
-			this.capacity = capacity;
-		}
+	public synchronized void setCapacity(int capacity) {
+		Assert.isTrue(capacity > 0, "Capacity must be greater than 0");
+		RingBuffer traces = new RingBuffer(capacity);
+		this.traces.closeAndCopyTo(traces);
+		this.traces = traces;
 	}
 
 	@Override
 	public List<HttpTrace> findAll() {
-		synchronized (this.traces) {
-			return Collections.unmodifiableList(new ArrayList<>(this.traces));
+		List<HttpTrace> traces = this.traces.toList();
+		if (this.reverse) {
+			Collections.reverse(traces);
 		}
+		return Collections.unmodifiableList(traces);
 	}
 
 	@Override
 	public void add(HttpTrace trace) {
-		synchronized (this.traces) {
-			while (this.traces.size() >= this.capacity) {
-				this.traces.remove(this.reverse ? this.capacity - 1 : 0);
+		while (!this.traces.add(trace)) {
+			// The capacity is being changed, retry once the new buffer is in place
+			Thread.yield();
+		}
+	}
+
+	/**
+	 * Fixed size buffer that overwrites its oldest element once full. Each element
+	 * records the sequence number it was added with so that readers only see slots
+	 * that have been published for the sequence they expect.
+	 */
+	private static final class RingBuffer {
+
+		private static final long CLOSED = 1L << 62;
+
+		private final AtomicReferenceArray<Element> elements;
+
+		private final AtomicLong sequence = new AtomicLong();
+
+		private volatile long closedSequence = -1;
+
+		RingBuffer(int capacity) {
+			this.elements = new AtomicReferenceArray<>(capacity);
+		}
+
+		boolean add(HttpTrace trace) {
+			long sequence = this.sequence.getAndIncrement();
+			if (sequence >= CLOSED) {
+				return false;
+			}
+			Element element = new Element(sequence, trace);
+			int index = index(sequence);
+			Element current = this.elements.get(index);
+			while (current == null || current.sequence < sequence) {
+				if (this.elements.compareAndSet(index, current, element)) {
+					break;
+				}
+				current = this.elements.get(index);
+			}
+			return true;
+		}
+
+		List<HttpTrace> toList() {
+			long end = getEnd();
+			long start = Math.max(0, end - this.elements.length());
+			List<HttpTrace> result = new ArrayList<>((int) (end - start));
+			for (long sequence = start; sequence < end; sequence++) {
+				Element element = this.elements.get(index(sequence));
+				if (element != null && element.sequence == sequence) {
+					result.add(element.trace);
+				}
 			}
-			if (this.reverse) {
-				this.traces.add(0, trace);
+			return result;
+		}
+
+		/**
+		 * Stop accepting traces and copy the current ones to the given buffer, waiting
+		 * for any add that is still in progress to be published.
+		 * @param target the target buffer
+		 */
+		void closeAndCopyTo(RingBuffer target) {
+			long end = this.sequence.getAndAdd(CLOSED);
+			this.closedSequence = end;
+			long start = Math.max(0, end - this.elements.length());
+			for (long sequence = start; sequence < end; sequence++) {
+				Element element = this.elements.get(index(sequence));
+				while (element == null || element.sequence < sequence) {
+					Thread.yield();
+					element = this.elements.get(index(sequence));
+				}
+				target.add(element.trace);
 			}
-			else {
-				this.traces.add(trace);
+		}
+
+		private long getEnd() {
+			long sequence = this.sequence.get();
+			if (sequence < CLOSED) {
+				return sequence;
 			}
+			long closedSequence = this.closedSequence;
+			while (closedSequence < 0) {
+				Thread.yield();
+				closedSequence = this.closedSequence;
+			}
+			return closedSequence;
+		}
+
+		private int index(long sequence) {
+			return (int) (sequence % this.elements.length());
+		}
+
+	}
+
+	/**
+	 * A trace stored in the {@link RingBuffer} along with its sequence number.
+	 */
+	private static final class Element {
+
+		private final long sequence;
+
+		private final HttpTrace trace;
+
+		Element(long sequence, HttpTrace trace) {
+			this.sequence = sequence;
+			this.trace = trace;
 		}
+
 	}
 
 }
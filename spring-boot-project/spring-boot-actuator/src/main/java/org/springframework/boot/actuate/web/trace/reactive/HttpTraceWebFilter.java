@@ -24,6 +24,7 @@ import reactor.core.publisher.Mono;
 import org.springframework.boot.actuate.trace.http.HttpExchangeTracer;
 import org.springframework.boot.actuate.trace.http.HttpTrace;
 import org.springframework.boot.actuate.trace.http.HttpTraceRepository;
+import org.springframework.boot.actuate.trace.http.HttpTraceSampler;
 import org.springframework.boot.actuate.trace.http.Include;
 import org.springframework.core.Ordered;
 import org.springframework.web.server.ServerWebExchange;
@@ -51,10 +52,26 @@ public class HttpTraceWebFilter implements WebFilter, Ordered {
 
 	private final Set<Include> includes;
 
+	private final HttpTraceSampler sampler;
+
 	public HttpTraceWebFilter(HttpTraceRepository repository, HttpExchangeTracer tracer, Set<Include> includes) {
+		this(repository, tracer, includes, HttpTraceSampler.ALWAYS);
+	}
+
+	/**
+	 * Create a new {@link HttpTraceWebFilter} instance.
+	 * @param repository the trace repository
+	 * @param tracer used to trace exchanges
+	 * @param includes the items to include in each trace
+	 * @param sampler used to decide which exchanges are traced
+	 * @since 2.5.0
+	 */
+	public HttpTraceWebFilter(HttpTraceRepository repository, HttpExchangeTracer tracer, Set<Include> includes,
+			HttpTraceSampler sampler) {
 		this.repository = repository;
 		this.tracer = tracer;
 		this.includes = includes;
+		this.sampler = sampler;
 	}
 
 	@Override
@@ -68,6 +85,9 @@ public class HttpTraceWebFilter implements WebFilter, Ordered {
 
 	@Override
 	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+		if (!this.sampler.sample()) {
+			return chain.filter(exchange);
+		}
 		Mono<?> principal = (this.includes.contains(Include.PRINCIPAL)
 				? exchange.getPrincipal().cast(Object.class).defaultIfEmpty(NONE) : Mono.just(NONE));
 		Mono<?> session = (this.includes.contains(Include.SESSION_ID) ? exchange.getSession() : Mono.just(NONE));
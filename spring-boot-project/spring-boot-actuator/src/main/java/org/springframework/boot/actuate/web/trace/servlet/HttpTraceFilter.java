@@ -31,6 +31,7 @@ import javax.servlet.http.HttpSession;
 import org.springframework.boot.actuate.trace.http.HttpExchangeTracer;
 import org.springframework.boot.actuate.trace.http.HttpTrace;
 import org.springframework.boot.actuate.trace.http.HttpTraceRepository;
+import org.springframework.boot.actuate.trace.http.HttpTraceSampler;
 import org.springframework.core.Ordered;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -55,14 +56,28 @@ public class HttpTraceFilter extends OncePerRequestFilter implements Ordered {
 
 	private final HttpExchangeTracer tracer;
 
+	private final HttpTraceSampler sampler;
+
 	/**
 	 * Create a new {@link HttpTraceFilter} instance.
 	 * @param repository the trace repository
 	 * @param tracer used to trace exchanges
 	 */
 	public HttpTraceFilter(HttpTraceRepository repository, HttpExchangeTracer tracer) {
+		this(repository, tracer, HttpTraceSampler.ALWAYS);
+	}
+
+	/**
+	 * Create a new {@link HttpTraceFilter} instance.
+	 * @param repository the trace repository
+	 * @param tracer used to trace exchanges
+	 * @param sampler used to decide which exchanges are traced
+	 * @since 2.5.0
+	 */
+	public HttpTraceFilter(HttpTraceRepository repository, HttpExchangeTracer tracer, HttpTraceSampler sampler) {
 		this.repository = repository;
 		this.tracer = tracer;
+		this.sampler = sampler;
 	}
 
 	@Override
@@ -77,7 +92,7 @@ public class HttpTraceFilter extends OncePerRequestFilter implements Ordered {
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
 			throws ServletException, IOException {
-		if (!isRequestValid(request)) {
+		if (!isRequestValid(request) || !this.sampler.sample()) {
 			filterChain.doFilter(request, response);
 			return;
 		}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -111,4 +111,47 @@ class InMemoryAuditEventRepositoryTests {
 		assertThat(events.get(0).getType()).isEqualTo("c");
 	}
 
+	@Test
+	void findByUnknownPrincipal() {
+		InMemoryAuditEventRepository repository = new InMemoryAuditEventRepository();
+		repository.add(new AuditEvent("dave", "a"));
+		assertThat(repository.find("phil", null, null)).isEmpty();
+	}
+
+	@Test
+	void findReturnsEventsInTimestampOrder() {
+		Instant instant = Instant.now();
+		Map<String, Object> data = new HashMap<>();
+		InMemoryAuditEventRepository repository = new InMemoryAuditEventRepository();
+		repository.add(new AuditEvent(instant.plus(2, ChronoUnit.DAYS), "dave", "c", data));
+		repository.add(new AuditEvent(instant, "dave", "a", data));
+		repository.add(new AuditEvent(instant.plus(1, ChronoUnit.DAYS), "dave", "b", data));
+		assertThat(repository.find("dave", null, null)).extracting(AuditEvent::getType).containsExactly("a", "b", "c");
+	}
+
+	@Test
+	void capacityDiscardsEventsInInsertionOrder() {
+		Instant instant = Instant.now();
+		Map<String, Object> data = new HashMap<>();
+		InMemoryAuditEventRepository repository = new InMemoryAuditEventRepository(2);
+		repository.add(new AuditEvent(instant, "dave", "a", data));
+		repository.add(new AuditEvent(instant.plus(1, ChronoUnit.DAYS), "phil", "b", data));
+		repository.add(new AuditEvent(instant.minus(1, ChronoUnit.DAYS), "dave", "c", data));
+		assertThat(repository.find(null, null, null)).extracting(AuditEvent::getType).containsExactly("c", "b");
+		assertThat(repository.find("dave", null, null)).extracting(AuditEvent::getType).containsExactly("c");
+	}
+
+	@Test
+	void setCapacityDiscardsStoredEvents() {
+		InMemoryAuditEventRepository repository = new InMemoryAuditEventRepository();
+		repository.add(new AuditEvent("dave", "a"));
+		repository.add(new AuditEvent("phil", "b"));
+		repository.setCapacity(1);
+		assertThat(repository.find(null, null, null)).isEmpty();
+		assertThat(repository.find("phil", null, null)).isEmpty();
+		repository.add(new AuditEvent("dave", "c"));
+		repository.add(new AuditEvent("dave", "d"));
+		assertThat(repository.find(null, null, null)).extracting(AuditEvent::getType).containsExactly("d");
+	}
+
 }
@@ -124,6 +124,35 @@ class WebMvcTagsTests {
 		assertThat(tag.getValue()).isEqualTo("UNKNOWN");
 	}
 
+	@Test
+	void methodTagValueIsRequestMethod() {
+		this.request.setMethod("POST");
+		Tag tag = WebMvcTags.method(this.request);
+		assertThat(tag.getValue()).isEqualTo("POST");
+	}
+
+	@Test
+	void methodTagToleratesNonStandardHttpMethods() {
+		this.request.setMethod("CUSTOM");
+		Tag tag = WebMvcTags.method(this.request);
+		assertThat(tag.getValue()).isEqualTo("CUSTOM");
+	}
+
+	@Test
+	void statusTagValueIsResponseStatus() {
+		this.response.setStatus(404);
+		Tag tag = WebMvcTags.status(this.response);
+		assertThat(tag.getValue()).isEqualTo("404");
+	}
+
+	@Test
+	void statusTagToleratesNonStandardResponseStatus() {
+		this.response.setStatus(299);
+		assertThat(WebMvcTags.status(this.response).getValue()).isEqualTo("299");
+		this.response.setStatus(1000);
+		assertThat(WebMvcTags.status(this.response).getValue()).isEqualTo("1000");
+	}
+
 	@Test
 	void outcomeTagIsUnknownWhenResponseIsNull() {
 		Tag tag = WebMvcTags.outcome(null);
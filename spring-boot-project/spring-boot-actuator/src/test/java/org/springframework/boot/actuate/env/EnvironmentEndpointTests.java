@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -27,6 +27,7 @@ import java.util.Map;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
 import org.springframework.boot.actuate.env.EnvironmentEndpoint.EnvironmentDescriptor;
 import org.springframework.boot.actuate.env.EnvironmentEndpoint.EnvironmentEntryDescriptor;
 import org.springframework.boot.actuate.env.EnvironmentEndpoint.PropertySourceDescriptor;
@@ -47,6 +48,7 @@ import org.springframework.core.io.InputStreamSource;
 import org.springframework.mock.env.MockPropertySource;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 /**
  * Tests for {@link EnvironmentEndpoint}.
@@ -164,6 +166,50 @@ class EnvironmentEndpointTests {
 		});
 	}
 
+	@Test
+	void propertiesFilteredByPrefix() {
+		ConfigurableEnvironment environment = emptyEnvironment();
+		TestPropertyValues.of("my.foo: foo", "my.bar: bar", "other.foo: foo").applyTo(environment);
+		EnvironmentDescriptor descriptor = new EnvironmentEndpoint(environment).environment(null, "my.", null, null);
+		assertThat(propertySources(descriptor).get("test").getProperties()).containsOnlyKeys("my.foo", "my.bar");
+	}
+
+	@Test
+	void propertiesFilteredByPrefixAndPattern() {
+		ConfigurableEnvironment environment = emptyEnvironment();
+		TestPropertyValues.of("my.foo: foo", "my.bar: bar", "other.foo: foo").applyTo(environment);
+		EnvironmentDescriptor descriptor = new EnvironmentEndpoint(environment).environment("foo", "my.", null, null);
+		assertThat(propertySources(descriptor).get("test").getProperties()).containsOnlyKeys("my.foo");
+	}
+
+	@Test
+	void propertiesPagedAcrossPropertySources() {
+		ConfigurableEnvironment environment = emptyEnvironment();
+		Map<String, Object> first = new LinkedHashMap<>();
+		first.put("my.a", "a");
+		first.put("my.b", "b");
+		first.put("other.a", "a");
+		environment.getPropertySources().addFirst(new MapPropertySource("first", first));
+		Map<String, Object> second = new LinkedHashMap<>();
+		second.put("my.c", "c");
+		second.put("my.d", "d");
+		environment.getPropertySources().addLast(new MapPropertySource("second", second));
+		EnvironmentEndpoint endpoint = new EnvironmentEndpoint(environment);
+		Map<String, PropertySourceDescriptor> page = propertySources(endpoint.environment(null, "my.", 0, 3));
+		assertThat(page.get("first").getProperties()).containsOnlyKeys("my.a", "my.b");
+		assertThat(page.get("second").getProperties()).containsOnlyKeys("my.c");
+		page = propertySources(endpoint.environment(null, "my.", 1, 3));
+		assertThat(page.get("first").getProperties()).isEmpty();
+		assertThat(page.get("second").getProperties()).containsOnlyKeys("my.d");
+	}
+
+	@Test
+	void invalidPageSizeThrowsException() {
+		EnvironmentEndpoint endpoint = new EnvironmentEndpoint(emptyEnvironment());
+		assertThatExceptionOfType(InvalidEndpointRequestException.class)
+				.isThrownBy(() -> endpoint.environment(null, null, 0, 0));
+	}
+
 	@Test
 	void propertyWithPlaceholderResolved() {
 		ConfigurableEnvironment environment = emptyEnvironment();
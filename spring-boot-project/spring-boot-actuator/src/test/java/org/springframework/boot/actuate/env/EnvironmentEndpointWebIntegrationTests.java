@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -65,6 +65,27 @@ class EnvironmentEndpointWebIntegrationTests {
 				.isEqualTo("baz");
 	}
 
+	@WebEndpointTest
+	void prefix() {
+		this.client.get().uri("/actuator/env?prefix=fool").exchange().expectStatus().isOk().expectBody()
+				.jsonPath(forProperty("test", "fool")).isEqualTo("baz").jsonPath(forProperty("test", "foo"))
+				.doesNotExist();
+	}
+
+	@WebEndpointTest
+	void page() {
+		this.client.get().uri("/actuator/env?prefix=fool&page=0&size=1").exchange().expectStatus().isOk()
+				.expectBody().jsonPath(forProperty("test", "fool")).isEqualTo("baz");
+		this.client.get().uri("/actuator/env?prefix=fool&page=1&size=1").exchange().expectStatus().isOk()
+				.expectBody().jsonPath(forProperty("test", "fool")).doesNotExist()
+				.jsonPath("propertySources[?(@.name=='test')]").exists();
+	}
+
+	@WebEndpointTest
+	void invalidPageSizeShouldReturnBadRequest() {
+		this.client.get().uri("/actuator/env?size=0").exchange().expectStatus().isBadRequest();
+	}
+
 	@WebEndpointTest
 	void nestedPathWhenPlaceholderCannotBeResolvedShouldReturnUnresolvedProperty() {
 		Map<String, Object> map = new HashMap<>();
@@ -18,19 +18,24 @@ package org.springframework.boot.actuate.logging;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
 import org.springframework.boot.logging.LogFile;
 import org.springframework.core.io.Resource;
 import org.springframework.mock.env.MockEnvironment;
 import org.springframework.util.FileCopyUtils;
+import org.springframework.util.StreamUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.contentOf;
 
 /**
@@ -82,4 +87,54 @@ class LogFileWebEndpointTests {
 		assertThat(contentOf(resource.getFile())).isEqualTo("--TEST--");
 	}
 
+	@Test
+	void resourceResponseWithLastLinesOfLogFile() throws Exception {
+		FileCopyUtils.copy("one\ntwo\nthree\n".getBytes(), this.logFile);
+		LogFileWebEndpoint endpoint = new LogFileWebEndpoint(null, this.logFile);
+		assertThat(readContent(endpoint.logFile(2))).isEqualTo("two\nthree\n");
+		assertThat(readContent(endpoint.logFile(0))).isEmpty();
+		assertThat(readContent(endpoint.logFile(5))).isEqualTo("one\ntwo\nthree\n");
+	}
+
+	@Test
+	void resourceResponseWithLastLinesOfLogFileWithoutTrailingNewLine() throws Exception {
+		FileCopyUtils.copy("one\ntwo\nthree".getBytes(), this.logFile);
+		LogFileWebEndpoint endpoint = new LogFileWebEndpoint(null, this.logFile);
+		assertThat(readContent(endpoint.logFile(1))).isEqualTo("three");
+	}
+
+	@Test
+	void resourceResponseWithLastLinesOfLogFileLargerThanBuffer() throws Exception {
+		StringBuilder content = new StringBuilder();
+		for (int i = 0; i < 2000; i++) {
+			content.append("line ").append(i).append('\n');
+		}
+		FileCopyUtils.copy(content.toString().getBytes(), this.logFile);
+		LogFileWebEndpoint endpoint = new LogFileWebEndpoint(null, this.logFile);
+		Resource resource = endpoint.logFile(3);
+		assertThat(resource.contentLength()).isEqualTo("line 1997\nline 1998\nline 1999\n".length());
+		assertThat(readContent(resource)).isEqualTo("line 1997\nline 1998\nline 1999\n");
+		assertThat(readContent(resource)).isEqualTo("line 1997\nline 1998\nline 1999\n");
+		assertThat(readContent(endpoint.logFile(Integer.MAX_VALUE))).isEqualTo(content.toString());
+	}
+
+	@Test
+	void resourceResponseWithLastLinesDoesNotIncludeContentAppendedLater() throws Exception {
+		FileCopyUtils.copy("one\ntwo\n".getBytes(), this.logFile);
+		LogFileWebEndpoint endpoint = new LogFileWebEndpoint(null, this.logFile);
+		Resource resource = endpoint.logFile(1);
+		Files.write(this.logFile.toPath(), "three\n".getBytes(), StandardOpenOption.APPEND);
+		assertThat(readContent(resource)).isEqualTo("two\n");
+	}
+
+	@Test
+	void negativeLinesThrowsException() {
+		LogFileWebEndpoint endpoint = new LogFileWebEndpoint(null, this.logFile);
+		assertThatExceptionOfType(InvalidEndpointRequestException.class).isThrownBy(() -> endpoint.logFile(-1));
+	}
+
+	private String readContent(Resource resource) throws IOException {
+		return StreamUtils.copyToString(resource.getInputStream(), StandardCharsets.UTF_8);
+	}
+
 }
@@ -45,8 +45,9 @@ class LogFileWebEndpointWebIntegrationTests {
 	private static File tempFile;
 
 	@BeforeEach
-	void setUp(WebTestClient client) {
+	void setUp(WebTestClient client) throws IOException {
 		this.client = client;
+		writeLogFile("--TEST--");
 	}
 
 	@BeforeAll
@@ -66,6 +67,36 @@ class LogFileWebEndpointWebIntegrationTests {
 				.expectHeader().contentType("text/plain; charset=UTF-8").expectBody(String.class).isEqualTo("--TEST--");
 	}
 
+	@WebEndpointTest
+	void getRequestWithLinesProducesResponseWithEndOfLogFile() {
+		this.client.get().uri("/actuator/logfile?lines=1").exchange().expectStatus().isOk().expectHeader()
+				.contentType("text/plain; charset=UTF-8").expectBody(String.class).isEqualTo("--TEST--");
+	}
+
+	@WebEndpointTest
+	void getRequestWithLinesProducesResponseWithLastLinesOfLogFile() throws IOException {
+		writeLogFile("one\ntwo\nthree\n");
+		this.client.get().uri("/actuator/logfile?lines=2").exchange().expectStatus().isOk().expectBody(String.class)
+				.isEqualTo("two\nthree\n");
+	}
+
+	@WebEndpointTest
+	void getRequestWithZeroLinesProducesEmptyResponse() throws IOException {
+		writeLogFile("one\ntwo\nthree\n");
+		this.client.get().uri("/actuator/logfile?lines=0").exchange().expectStatus().isOk().expectBody().isEmpty();
+	}
+
+	@WebEndpointTest
+	void getRequestWithMoreLinesThanLogFileProducesResponseWithLogFile() throws IOException {
+		writeLogFile("one\ntwo\nthree\n");
+		this.client.get().uri("/actuator/logfile?lines=2147483647").exchange().expectStatus().isOk()
+				.expectBody(String.class).isEqualTo("one\ntwo\nthree\n");
+	}
+
+	private static void writeLogFile(String content) throws IOException {
+		FileCopyUtils.copy(content.getBytes(), new File(tempFile, "test.log"));
+	}
+
 	@Configuration(proxyBeanMethods = false)
 	static class TestConfiguration {
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package org.springframework.boot.actuate.logging;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
@@ -25,6 +26,7 @@ import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
 import org.springframework.boot.actuate.logging.LoggersEndpoint.GroupLoggerLevels;
 import org.springframework.boot.actuate.logging.LoggersEndpoint.LoggerLevels;
 import org.springframework.boot.actuate.logging.LoggersEndpoint.SingleLoggerLevels;
@@ -34,6 +36,7 @@ import org.springframework.boot.logging.LoggerGroups;
 import org.springframework.boot.logging.LoggingSystem;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -99,6 +102,41 @@ class LoggersEndpointTests {
 		assertThat(groupLevel.getMembers()).containsExactly("test.member");
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	void loggersWithPrefixShouldReturnMatchingLoggerConfigurations() {
+		given(this.loggingSystem.getLoggerConfigurations("com.example"))
+				.willReturn(Collections.singletonList(new LoggerConfiguration("com.example", null, LogLevel.INFO)));
+		given(this.loggingSystem.getSupportedLogLevels()).willReturn(EnumSet.allOf(LogLevel.class));
+		Map<String, Object> result = new LoggersEndpoint(this.loggingSystem, this.loggerGroups).loggers("com.example",
+				null, null);
+		Map<String, LoggerLevels> loggers = (Map<String, LoggerLevels>) result.get("loggers");
+		assertThat(loggers).containsOnlyKeys("com.example");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void loggersWithPageShouldReturnPageOfLoggerConfigurations() {
+		given(this.loggingSystem.getLoggerConfigurations())
+				.willReturn(Arrays.asList(new LoggerConfiguration("ROOT", null, LogLevel.INFO),
+						new LoggerConfiguration("a", null, LogLevel.INFO),
+						new LoggerConfiguration("b", null, LogLevel.INFO)));
+		given(this.loggingSystem.getSupportedLogLevels()).willReturn(EnumSet.allOf(LogLevel.class));
+		LoggersEndpoint endpoint = new LoggersEndpoint(this.loggingSystem, this.loggerGroups);
+		assertThat((Map<String, LoggerLevels>) endpoint.loggers(null, 0, 2).get("loggers")).containsOnlyKeys("ROOT",
+				"a");
+		assertThat((Map<String, LoggerLevels>) endpoint.loggers(null, 1, 2).get("loggers")).containsOnlyKeys("b");
+		assertThat((Map<String, LoggerLevels>) endpoint.loggers(null, 2, 2).get("loggers")).isEmpty();
+	}
+
+	@Test
+	void loggersWithNegativePageShouldThrowException() {
+		given(this.loggingSystem.getLoggerConfigurations()).willReturn(Collections.emptyList());
+		LoggersEndpoint endpoint = new LoggersEndpoint(this.loggingSystem, this.loggerGroups);
+		assertThatExceptionOfType(InvalidEndpointRequestException.class)
+				.isThrownBy(() -> endpoint.loggers(null, -1, null));
+	}
+
 	@Test
 	void loggerLevelsWhenNameSpecifiedShouldReturnLevels() {
 		given(this.loggingSystem.getLoggerConfiguration("ROOT"))
@@ -132,13 +170,13 @@ class LoggersEndpointTests {
 	@Test
 	void configureLogLevelInLoggerGroupShouldSetLevelOnLoggingSystem() {
 		new LoggersEndpoint(this.loggingSystem, this.loggerGroups).configureLogLevel("test", LogLevel.DEBUG);
-		verify(this.loggingSystem).setLogLevel("test.member", LogLevel.DEBUG);
+		verify(this.loggingSystem).setLogLevels(Collections.singletonMap("test.member", LogLevel.DEBUG));
 	}
 
 	@Test
 	void configureLogLevelWithNullInLoggerGroupShouldSetLevelOnLoggingSystem() {
 		new LoggersEndpoint(this.loggingSystem, this.loggerGroups).configureLogLevel("test", null);
-		verify(this.loggingSystem).setLogLevel("test.member", null);
+		verify(this.loggingSystem).setLogLevels(Collections.singletonMap("test.member", null));
 	}
 
 }
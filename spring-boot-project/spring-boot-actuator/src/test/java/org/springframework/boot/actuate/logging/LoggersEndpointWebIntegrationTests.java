@@ -95,6 +95,23 @@ class LoggersEndpointWebIntegrationTests {
 				.isEqualTo("DEBUG");
 	}
 
+	@WebEndpointTest
+	void getLoggersWithPrefixAndPageShouldReturnPageOfMatchingLoggers() {
+		given(this.loggingSystem.getLoggerConfigurations("com.example"))
+				.willReturn(Arrays.asList(new LoggerConfiguration("com.example.a", null, LogLevel.DEBUG),
+						new LoggerConfiguration("com.example.b", null, LogLevel.DEBUG),
+						new LoggerConfiguration("com.example.c", null, LogLevel.DEBUG)));
+		this.client.get().uri("/actuator/loggers?prefix=com.example&page=1&size=2").exchange().expectStatus().isOk()
+				.expectBody().jsonPath("loggers.length()").isEqualTo(1).jsonPath("loggers['com.example.c']")
+				.exists();
+	}
+
+	@WebEndpointTest
+	void getLoggersWithInvalidPageSizeShouldReturnBadRequest() {
+		given(this.loggingSystem.getLoggerConfigurations()).willReturn(Collections.emptyList());
+		this.client.get().uri("/actuator/loggers?size=0").exchange().expectStatus().isBadRequest();
+	}
+
 	@WebEndpointTest
 	void getLoggerShouldReturnLogLevels() {
 		setLogLevelToDebug("test");
@@ -148,8 +165,7 @@ class LoggersEndpointWebIntegrationTests {
 		this.client.post().uri("/actuator/loggers/test").contentType(MediaType.parseMediaType(V2_JSON))
 				.bodyValue(Collections.singletonMap("configuredLevel", "debug")).exchange().expectStatus()
 				.isNoContent();
-		verify(this.loggingSystem).setLogLevel("test.member1", LogLevel.DEBUG);
-		verify(this.loggingSystem).setLogLevel("test.member2", LogLevel.DEBUG);
+		verify(this.loggingSystem).setLogLevels(memberLevels(LogLevel.DEBUG));
 	}
 
 	@WebEndpointTest
@@ -157,8 +173,7 @@ class LoggersEndpointWebIntegrationTests {
 		this.client.post().uri("/actuator/loggers/test").contentType(MediaType.APPLICATION_JSON)
 				.bodyValue(Collections.singletonMap("configuredLevel", "debug")).exchange().expectStatus()
 				.isNoContent();
-		verify(this.loggingSystem).setLogLevel("test.member1", LogLevel.DEBUG);
-		verify(this.loggingSystem).setLogLevel("test.member2", LogLevel.DEBUG);
+		verify(this.loggingSystem).setLogLevels(memberLevels(LogLevel.DEBUG));
 	}
 
 	@WebEndpointTest
@@ -187,16 +202,14 @@ class LoggersEndpointWebIntegrationTests {
 	void setLoggerGroupWithNullLogLevel() {
 		this.client.post().uri("/actuator/loggers/test").contentType(MediaType.parseMediaType(V3_JSON))
 				.bodyValue(Collections.singletonMap("configuredLevel", null)).exchange().expectStatus().isNoContent();
-		verify(this.loggingSystem).setLogLevel("test.member1", null);
-		verify(this.loggingSystem).setLogLevel("test.member2", null);
+		verify(this.loggingSystem).setLogLevels(memberLevels(null));
 	}
 
 	@WebEndpointTest
 	void setLoggerGroupWithNoLogLevel() {
 		this.client.post().uri("/actuator/loggers/test").contentType(MediaType.parseMediaType(V3_JSON))
 				.bodyValue(Collections.emptyMap()).exchange().expectStatus().isNoContent();
-		verify(this.loggingSystem).setLogLevel("test.member1", null);
-		verify(this.loggingSystem).setLogLevel("test.member2", null);
+		verify(this.loggingSystem).setLogLevels(memberLevels(null));
 	}
 
 	@WebEndpointTest
@@ -216,6 +229,13 @@ class LoggersEndpointWebIntegrationTests {
 				.value(IsIterableContainingInAnyOrder.containsInAnyOrder("png.member1", "png.member2"));
 	}
 
+	private Map<String, LogLevel> memberLevels(LogLevel level) {
+		Map<String, LogLevel> levels = new LinkedHashMap<>();
+		levels.put("test.member1", level);
+		levels.put("test.member2", level);
+		return levels;
+	}
+
 	private void setLogLevelToDebug(String name) {
 		this.loggerGroups.get(name).configureLogLevel(LogLevel.DEBUG, (a, b) -> {
 		});
@@ -129,6 +129,20 @@ class WebFluxTagsTests {
 		assertThat(tag.getValue()).isEqualTo("UNKNOWN");
 	}
 
+	@Test
+	void methodTagValueIsRequestMethod() {
+		ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/"));
+		Tag tag = WebFluxTags.method(exchange);
+		assertThat(tag.getValue()).isEqualTo("POST");
+	}
+
+	@Test
+	void statusTagValueIsResponseStatus() {
+		this.exchange.getResponse().setStatusCode(HttpStatus.NOT_FOUND);
+		Tag tag = WebFluxTags.status(this.exchange);
+		assertThat(tag.getValue()).isEqualTo("404");
+	}
+
 	@Test
 	void methodTagToleratesNonStandardHttpMethods() {
 		ServerWebExchange exchange = mock(ServerWebExchange.class);
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.trace.http;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link HttpTraceSampler}.
+ *
+ * @author agent
+ */
+class HttpTraceSamplerTests {
+
+	private final AtomicLong nanoTime = new AtomicLong();
+
+	@Test
+	void alwaysSamples() {
+		for (int i = 0; i < 1000; i++) {
+			assertThat(HttpTraceSampler.ALWAYS.sample()).isTrue();
+		}
+	}
+
+	@Test
+	void zeroProbabilityNeverSamples() {
+		HttpTraceSampler sampler = new HttpTraceSampler(0.0, -1);
+		for (int i = 0; i < 1000; i++) {
+			assertThat(sampler.sample()).isFalse();
+		}
+	}
+
+	@Test
+	void rateLimitIsAppliedPerSecond() {
+		HttpTraceSampler sampler = new HttpTraceSampler(1.0, 2, this.nanoTime::get);
+		assertThat(sampler.sample()).isTrue();
+		assertThat(sampler.sample()).isTrue();
+		assertThat(sampler.sample()).isFalse();
+		this.nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+		assertThat(sampler.sample()).isFalse();
+		this.nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+		assertThat(sampler.sample()).isTrue();
+		assertThat(sampler.sample()).isTrue();
+		assertThat(sampler.sample()).isFalse();
+	}
+
+	@Test
+	void zeroRateLimitNeverSamples() {
+		HttpTraceSampler sampler = new HttpTraceSampler(1.0, 0, this.nanoTime::get);
+		assertThat(sampler.sample()).isFalse();
+	}
+
+	@Test
+	void createWhenProbabilityIsOutOfRangeThrowsException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new HttpTraceSampler(1.5, -1))
+				.withMessage("Probability must be between 0.0 and 1.0");
+	}
+
+}
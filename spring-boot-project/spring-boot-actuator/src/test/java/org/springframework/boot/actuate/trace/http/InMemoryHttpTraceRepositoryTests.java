@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,7 +16,17 @@
 
 package org.springframework.boot.actuate.trace.http;
 
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.Test;
 
@@ -59,10 +69,154 @@ class InMemoryHttpTraceRepositoryTests {
 		assertThat(traces.get(1).getRequest().getMethod()).isEqualTo("DELETE");
 	}
 
+	@Test
+	void capacityWrapsMoreThanOnce() {
+		this.repository.setCapacity(3);
+		for (int i = 0; i < 10; i++) {
+			this.repository.add(new HttpTrace(createRequest("GET" + i)));
+		}
+		assertThat(this.repository.findAll()).extracting((trace) -> trace.getRequest().getMethod())
+				.containsExactly("GET9", "GET8", "GET7");
+	}
+
+	@Test
+	void increasingCapacityRetainsTraces() {
+		this.repository.setCapacity(2);
+		this.repository.add(new HttpTrace(createRequest("GET")));
+		this.repository.add(new HttpTrace(createRequest("POST")));
+		this.repository.setCapacity(3);
+		this.repository.add(new HttpTrace(createRequest("DELETE")));
+		assertThat(this.repository.findAll()).extracting((trace) -> trace.getRequest().getMethod())
+				.containsExactly("DELETE", "POST", "GET");
+	}
+
+	@Test
+	void decreasingCapacityRetainsMostRecentTraces() {
+		this.repository.add(new HttpTrace(createRequest("GET")));
+		this.repository.add(new HttpTrace(createRequest("POST")));
+		this.repository.add(new HttpTrace(createRequest("DELETE")));
+		this.repository.setCapacity(2);
+		assertThat(this.repository.findAll()).extracting((trace) -> trace.getRequest().getMethod())
+				.containsExactly("DELETE", "POST");
+	}
+
+	@Test
+	void concurrentAddAndFindAllReturnOrderedTracesWithoutDuplicates() throws Exception {
+		int writers = 4;
+		int tracesPerWriter = 20000;
+		this.repository.setCapacity(64);
+		this.repository.setReverse(false);
+		AtomicBoolean writing = new AtomicBoolean(true);
+		AtomicReference<String> failure = new AtomicReference<>();
+		Thread reader = new Thread(() -> {
+			while (writing.get() && failure.get() == null) {
+				failure.compareAndSet(null, checkOrdered(this.repository.findAll()));
+			}
+		});
+		reader.start();
+		runWriters(writers, tracesPerWriter, () -> {
+		});
+		writing.set(false);
+		reader.join();
+		assertThat(failure.get()).isNull();
+		List<HttpTrace> traces = this.repository.findAll();
+		assertThat(traces).hasSize(64);
+		assertThat(checkOrdered(traces)).isNull();
+	}
+
+	@Test
+	void concurrentAddAndSetCapacityDoesNotLoseTraces() throws Exception {
+		int writers = 4;
+		int tracesPerWriter = 5000;
+		this.repository.setCapacity(writers * tracesPerWriter);
+		runWriters(writers, tracesPerWriter, () -> this.repository.setCapacity(writers * tracesPerWriter));
+		assertThat(this.repository.findAll()).hasSize(writers * tracesPerWriter);
+	}
+
+	private void runWriters(int writers, int tracesPerWriter, Runnable action) throws InterruptedException {
+		CountDownLatch start = new CountDownLatch(1);
+		List<Thread> threads = new ArrayList<>();
+		for (int writer = 0; writer < writers; writer++) {
+			String name = "writer" + writer;
+			Thread thread = new Thread(() -> {
+				awaitQuietly(start);
+				for (int i = 0; i < tracesPerWriter; i++) {
+					this.repository.add(new HttpTrace(new TestRequest(name + ":" + i)));
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+		start.countDown();
+		for (int i = 0; i < 10; i++) {
+			action.run();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+	}
+
+	private void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private String checkOrdered(List<HttpTrace> traces) {
+		Set<String> seen = new HashSet<>();
+		Map<String, Integer> lastByWriter = new HashMap<>();
+		for (HttpTrace trace : traces) {
+			String method = trace.getRequest().getMethod();
+			if (!seen.add(method)) {
+				return "Duplicate trace " + method;
+			}
+			String[] parts = method.split(":");
+			int index = Integer.parseInt(parts[1]);
+			Integer last = lastByWriter.put(parts[0], index);
+			if (last != null && last >= index) {
+				return "Trace " + method + " out of order after " + last;
+			}
+		}
+		return null;
+	}
+
 	private TraceableRequest createRequest(String method) {
 		TraceableRequest request = mock(TraceableRequest.class);
 		given(request.getMethod()).willReturn(method);
 		return request;
 	}
 
+	static class TestRequest implements TraceableRequest {
+
+		private final String method;
+
+		TestRequest(String method) {
+			this.method = method;
+		}
+
+		@Override
+		public String getMethod() {
+			return this.method;
+		}
+
+		@Override
+		public URI getUri() {
+			return URI.create("https://example.com");
+		}
+
+		@Override
+		public Map<String, List<String>> getHeaders() {
+			return Collections.emptyMap();
+		}
+
+		@Override
+		public String getRemoteAddress() {
+			return null;
+		}
+
+	}
+
 }
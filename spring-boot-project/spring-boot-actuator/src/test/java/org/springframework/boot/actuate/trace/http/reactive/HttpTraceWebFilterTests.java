@@ -25,6 +25,7 @@ import reactor.core.publisher.Mono;
 
 import org.springframework.boot.actuate.trace.http.HttpExchangeTracer;
 import org.springframework.boot.actuate.trace.http.HttpTrace.Session;
+import org.springframework.boot.actuate.trace.http.HttpTraceSampler;
 import org.springframework.boot.actuate.trace.http.InMemoryHttpTraceRepository;
 import org.springframework.boot.actuate.trace.http.Include;
 import org.springframework.boot.actuate.web.trace.reactive.HttpTraceWebFilter;
@@ -59,6 +60,16 @@ class HttpTraceWebFilterTests {
 		assertThat(this.repository.findAll()).hasSize(1);
 	}
 
+	@Test
+	void filterDoesNotTraceExchangeThatIsNotSampled() {
+		HttpTraceWebFilter filter = new HttpTraceWebFilter(this.repository, this.tracer, EnumSet.allOf(Include.class),
+				new HttpTraceSampler(0.0, -1));
+		ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("https://api.example.com"));
+		filter.filter(exchange, (serverWebExchange) -> Mono.empty())
+				.then(Mono.defer(() -> exchange.getResponse().setComplete())).block(Duration.ofSeconds(30));
+		assertThat(this.repository.findAll()).isEmpty();
+	}
+
 	@Test
 	void filterCapturesSessionIdWhenSessionIsUsed() {
 		executeFilter(MockServerWebExchange.from(MockServerHttpRequest.get("https://api.example.com")), (exchange) -> {
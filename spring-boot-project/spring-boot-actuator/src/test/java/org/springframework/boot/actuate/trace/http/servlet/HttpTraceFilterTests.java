@@ -29,6 +29,7 @@ import org.junit.jupiter.api.Test;
 
 import org.springframework.boot.actuate.trace.http.HttpExchangeTracer;
 import org.springframework.boot.actuate.trace.http.HttpTrace.Session;
+import org.springframework.boot.actuate.trace.http.HttpTraceSampler;
 import org.springframework.boot.actuate.trace.http.InMemoryHttpTraceRepository;
 import org.springframework.boot.actuate.trace.http.Include;
 import org.springframework.boot.actuate.web.trace.servlet.HttpTraceFilter;
@@ -66,6 +67,13 @@ class HttpTraceFilterTests {
 		assertThat(this.repository.findAll()).hasSize(1);
 	}
 
+	@Test
+	void filterDoesNotTraceExchangeThatIsNotSampled() throws ServletException, IOException {
+		HttpTraceFilter filter = new HttpTraceFilter(this.repository, this.tracer, new HttpTraceSampler(0.0, -1));
+		filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), new MockFilterChain());
+		assertThat(this.repository.findAll()).isEmpty();
+	}
+
 	@Test
 	void filterCapturesSessionId() throws ServletException, IOException {
 		this.filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(),
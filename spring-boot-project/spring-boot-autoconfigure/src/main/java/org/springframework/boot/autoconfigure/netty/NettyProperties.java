@@ -34,6 +34,8 @@ public class NettyProperties {
 	 */
 	private LeakDetection leakDetection = LeakDetection.DISABLED;
 
+	private final EventLoop eventLoop = new EventLoop();
+
 	public LeakDetection getLeakDetection() {
 		return this.leakDetection;
 	}
@@ -42,6 +44,32 @@ public class NettyProperties {
 		this.leakDetection = leakDetection;
 	}
 
+	public EventLoop getEventLoop() {
+		return this.eventLoop;
+	}
+
+	/**
+	 * Event loop properties.
+	 */
+	public static class EventLoop {
+
+		/**
+		 * Number of worker threads of the event loop that is shared by the Reactor Netty
+		 * server and clients. When not set, Reactor Netty's global event loop, whose size
+		 * is derived from the number of available processors, is used.
+		 */
+		private Integer threads;
+
+		public Integer getThreads() {
+			return this.threads;
+		}
+
+		public void setThreads(Integer threads) {
+			this.threads = threads;
+		}
+
+	}
+
 	public enum LeakDetection {
 
 		/**
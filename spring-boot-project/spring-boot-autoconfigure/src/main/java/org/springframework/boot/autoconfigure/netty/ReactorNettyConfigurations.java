@@ -0,0 +1,61 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.netty;
+
+import reactor.netty.resources.LoopResources;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorResourceFactory;
+
+/**
+ * Configurations for Reactor Netty. Those should be {@code @Import} in a regular
+ * auto-configuration class.
+ *
+ * @author agent
+ * @since 2.5.0
+ */
+public final class ReactorNettyConfigurations {
+
+	private ReactorNettyConfigurations() {
+	}
+
+	/**
+	 * Configuration of the {@link ReactorResourceFactory} that is shared by the Reactor
+	 * Netty server and clients.
+	 */
+	@Configuration(proxyBeanMethods = false)
+	@EnableConfigurationProperties(NettyProperties.class)
+	public static class ReactorResourceFactoryConfiguration {
+
+		@Bean
+		@ConditionalOnMissingBean
+		ReactorResourceFactory reactorResourceFactory(NettyProperties properties) {
+			ReactorResourceFactory resourceFactory = new ReactorResourceFactory();
+			Integer threads = properties.getEventLoop().getThreads();
+			if (threads != null) {
+				resourceFactory.setUseGlobalResources(false);
+				resourceFactory.setLoopResourcesSupplier(() -> LoopResources.create("reactor-http", threads, true));
+			}
+			return resourceFactory;
+		}
+
+	}
+
+}
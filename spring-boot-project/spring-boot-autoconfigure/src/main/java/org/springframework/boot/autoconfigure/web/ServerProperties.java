@@ -384,6 +384,13 @@ public class ServerProperties {
 		 */
 		private int maxKeepAliveRequests = 100;
 
+		/**
+		 * Maximum number of active HTTP sessions. When the limit is reached, the creation
+		 * of a new session is rejected with an IllegalStateException. When set to -1,
+		 * the number of sessions is unlimited.
+		 */
+		private int maxSessions = -1;
+
 		/**
 		 * Comma-separated list of additional patterns that match jars to ignore for TLD
 		 * scanning. The special '?' and '*' characters can be used in the pattern to
@@ -528,6 +535,14 @@ public class ServerProperties {
 			this.maxKeepAliveRequests = maxKeepAliveRequests;
 		}
 
+		public int getMaxSessions() {
+			return this.maxSessions;
+		}
+
+		public void setMaxSessions(int maxSessions) {
+			this.maxSessions = maxSessions;
+		}
+
 		public List<String> getAdditionalTldSkipPatterns() {
 			return this.additionalTldSkipPatterns;
 		}
@@ -823,6 +838,12 @@ public class ServerProperties {
 			 */
 			private int minSpare = 10;
 
+			/**
+			 * Whether to handle requests on virtual threads rather than on the worker
+			 * thread pool. Requires a Java runtime that supports virtual threads.
+			 */
+			private boolean virtual;
+
 			public int getMax() {
 				return this.max;
 			}
@@ -839,6 +860,14 @@ public class ServerProperties {
 				this.minSpare = minSpare;
 			}
 
+			public boolean isVirtual() {
+				return this.virtual;
+			}
+
+			public void setVirtual(boolean virtual) {
+				this.virtual = virtual;
+			}
+
 		}
 
 		/**
@@ -1078,6 +1107,18 @@ public class ServerProperties {
 			 */
 			private List<String> ignorePaths;
 
+			/**
+			 * Whether to write log entries on a background thread rather than on the
+			 * request thread.
+			 */
+			private boolean async;
+
+			/**
+			 * Maximum number of log entries queued for writing when async logging is
+			 * enabled. Entries that do not fit in the queue are dropped.
+			 */
+			private int queueSize = 1024;
+
 			public boolean isEnabled() {
 				return this.enabled;
 			}
@@ -1142,6 +1183,22 @@ public class ServerProperties {
 				this.ignorePaths = ignorePaths;
 			}
 
+			public boolean isAsync() {
+				return this.async;
+			}
+
+			public void setAsync(boolean async) {
+				this.async = async;
+			}
+
+			public int getQueueSize() {
+				return this.queueSize;
+			}
+
+			public void setQueueSize(int queueSize) {
+				this.queueSize = queueSize;
+			}
+
 			/**
 			 * Log format for Jetty access logs.
 			 */
@@ -1419,6 +1476,13 @@ public class ServerProperties {
 		 */
 		private boolean preservePathOnForward = false;
 
+		/**
+		 * Maximum number of HTTP sessions held in memory. When the limit is reached, the
+		 * least recently used session is evicted to make room for a new session. When
+		 * set to -1, the number of sessions is unlimited.
+		 */
+		private int maxSessions = -1;
+
 		private final Accesslog accesslog = new Accesslog();
 
 		/**
@@ -1532,6 +1596,14 @@ public class ServerProperties {
 			this.preservePathOnForward = preservePathOnForward;
 		}
 
+		public int getMaxSessions() {
+			return this.maxSessions;
+		}
+
+		public void setMaxSessions(int maxSessions) {
+			this.maxSessions = maxSessions;
+		}
+
 		public Accesslog getAccesslog() {
 			return this.accesslog;
 		}
@@ -1645,6 +1717,12 @@ public class ServerProperties {
 			 */
 			private Integer worker;
 
+			/**
+			 * Whether to handle blocking requests on virtual threads rather than on the
+			 * worker thread pool. Requires a Java runtime that supports virtual threads.
+			 */
+			private boolean virtual;
+
 			public Integer getIo() {
 				return this.io;
 			}
@@ -1661,6 +1739,14 @@ public class ServerProperties {
 				this.worker = worker;
 			}
 
+			public boolean isVirtual() {
+				return this.virtual;
+			}
+
+			public void setVirtual(boolean virtual) {
+				this.virtual = virtual;
+			}
+
 		}
 
 		public static class Options {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +22,7 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.SynchronousQueue;
 
 import org.eclipse.jetty.server.AbstractConnector;
+import org.eclipse.jetty.server.AsyncRequestLogWriter;
 import org.eclipse.jetty.server.ConnectionFactory;
 import org.eclipse.jetty.server.CustomRequestLog;
 import org.eclipse.jetty.server.Handler;
@@ -164,7 +165,7 @@ public class JettyWebServerFactoryCustomizer
 	private void customizeAccessLog(ConfigurableJettyWebServerFactory factory,
 			ServerProperties.Jetty.Accesslog properties) {
 		factory.addServerCustomizers((server) -> {
-			RequestLogWriter logWriter = new RequestLogWriter();
+			RequestLogWriter logWriter = createLogWriter(properties);
 			String format = getLogFormat(properties);
 			CustomRequestLog log = new CustomRequestLog(logWriter, format);
 			if (!CollectionUtils.isEmpty(properties.getIgnorePaths())) {
@@ -182,6 +183,13 @@ public class JettyWebServerFactoryCustomizer
 		});
 	}
 
+	private RequestLogWriter createLogWriter(ServerProperties.Jetty.Accesslog properties) {
+		if (properties.isAsync()) {
+			return new AsyncRequestLogWriter(null, new BlockingArrayQueue<>(properties.getQueueSize()));
+		}
+		return new RequestLogWriter();
+	}
+
 	private String getLogFormat(ServerProperties.Jetty.Accesslog properties) {
 		if (properties.getCustomFormat() != null) {
 			return properties.getCustomFormat();
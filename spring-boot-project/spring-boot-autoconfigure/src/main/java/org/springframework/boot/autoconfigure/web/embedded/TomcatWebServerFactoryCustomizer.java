@@ -35,6 +35,7 @@ import org.springframework.boot.autoconfigure.web.ServerProperties.Tomcat.Access
 import org.springframework.boot.autoconfigure.web.ServerProperties.Tomcat.Remoteip;
 import org.springframework.boot.cloud.CloudPlatform;
 import org.springframework.boot.context.properties.PropertyMapper;
+import org.springframework.boot.task.VirtualThreadExecutor;
 import org.springframework.boot.web.embedded.tomcat.ConfigurableTomcatWebServerFactory;
 import org.springframework.boot.web.server.WebServerFactoryCustomizer;
 import org.springframework.core.Ordered;
@@ -90,6 +91,8 @@ public class TomcatWebServerFactoryCustomizer
 				.to((maxThreads) -> customizeMaxThreads(factory, threadProperties.getMax()));
 		propertyMapper.from(threadProperties::getMinSpare).when(this::isPositive)
 				.to((minSpareThreads) -> customizeMinThreads(factory, minSpareThreads));
+		propertyMapper.from(threadProperties::isVirtual).whenTrue()
+				.to((virtual) -> customizeVirtualThreads(factory));
 		propertyMapper.from(this.serverProperties.getMaxHttpHeaderSize()).whenNonNull().asInt(DataSize::toBytes)
 				.when(this::isPositive)
 				.to((maxHttpHeaderSize) -> customizeMaxHttpHeaderSize(factory, maxHttpHeaderSize));
@@ -254,6 +257,17 @@ public class TomcatWebServerFactoryCustomizer
 		});
 	}
 
+	@SuppressWarnings("rawtypes")
+	private void customizeVirtualThreads(ConfigurableTomcatWebServerFactory factory) {
+		factory.addConnectorCustomizers((connector) -> {
+			ProtocolHandler handler = connector.getProtocolHandler();
+			if (handler instanceof AbstractProtocol) {
+				AbstractProtocol protocol = (AbstractProtocol) handler;
+				protocol.setExecutor(new VirtualThreadExecutor("tomcat-handler-"));
+			}
+		});
+	}
+
 	@SuppressWarnings("rawtypes")
 	private void customizeMaxHttpHeaderSize(ConfigurableTomcatWebServerFactory factory, int maxHttpHeaderSize) {
 		factory.addConnectorCustomizers((connector) -> {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,11 +16,15 @@
 
 package org.springframework.boot.autoconfigure.web.servlet;
 
+import org.apache.catalina.Manager;
+import org.apache.catalina.session.StandardManager;
+
 import org.springframework.boot.autoconfigure.web.ServerProperties;
 import org.springframework.boot.web.embedded.tomcat.ConfigurableTomcatWebServerFactory;
 import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
 import org.springframework.boot.web.server.WebServerFactoryCustomizer;
 import org.springframework.core.Ordered;
+import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
 
 /**
@@ -55,6 +59,9 @@ public class TomcatServletWebServerFactoryCustomizer
 			customizeRedirectContextRoot(factory, tomcatProperties.getRedirectContextRoot());
 		}
 		customizeUseRelativeRedirects(factory, tomcatProperties.isUseRelativeRedirects());
+		if (tomcatProperties.getMaxSessions() >= 0) {
+			customizeMaxSessions(factory, tomcatProperties.getMaxSessions());
+		}
 		factory.setDisableMBeanRegistry(!tomcatProperties.getMbeanregistry().isEnabled());
 	}
 
@@ -67,4 +74,17 @@ public class TomcatServletWebServerFactoryCustomizer
 		factory.addContextCustomizers((context) -> context.setUseRelativeRedirects(useRelativeRedirects));
 	}
 
+	private void customizeMaxSessions(ConfigurableTomcatWebServerFactory factory, int maxSessions) {
+		factory.addContextCustomizers((context) -> {
+			Manager manager = context.getManager();
+			if (manager == null) {
+				manager = new StandardManager();
+				context.setManager(manager);
+			}
+			Assert.state(manager instanceof StandardManager,
+					"Unable to limit HTTP sessions using manager type " + manager.getClass().getName());
+			((StandardManager) manager).setMaxActiveSessions(maxSessions);
+		});
+	}
+
 }
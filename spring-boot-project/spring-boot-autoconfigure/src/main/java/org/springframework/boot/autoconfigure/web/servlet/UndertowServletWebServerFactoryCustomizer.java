@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,7 +16,10 @@
 
 package org.springframework.boot.autoconfigure.web.servlet;
 
+import io.undertow.servlet.core.InMemorySessionManagerFactory;
+
 import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.task.VirtualThreadExecutor;
 import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
 import org.springframework.boot.web.server.WebServerFactoryCustomizer;
 
@@ -40,6 +43,15 @@ public class UndertowServletWebServerFactoryCustomizer
 	public void customize(UndertowServletWebServerFactory factory) {
 		factory.setEagerFilterInit(this.serverProperties.getUndertow().isEagerFilterInit());
 		factory.setPreservePathOnForward(this.serverProperties.getUndertow().isPreservePathOnForward());
+		if (this.serverProperties.getUndertow().getThreads().isVirtual()) {
+			factory.addDeploymentInfoCustomizers((deploymentInfo) -> deploymentInfo
+					.setExecutor(new VirtualThreadExecutor("undertow-handler-")));
+		}
+		int maxSessions = this.serverProperties.getUndertow().getMaxSessions();
+		if (maxSessions >= 0) {
+			factory.addDeploymentInfoCustomizers((deploymentInfo) -> deploymentInfo
+					.setSessionManagerFactory(new InMemorySessionManagerFactory(maxSessions, true)));
+		}
 	}
 
 }
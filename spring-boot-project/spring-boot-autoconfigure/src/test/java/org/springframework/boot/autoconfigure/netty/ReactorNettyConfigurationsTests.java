@@ -0,0 +1,75 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.netty;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.netty.ReactorNettyConfigurations.ReactorResourceFactoryConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorResourceFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ReactorNettyConfigurations}.
+ *
+ * @author agent
+ */
+class ReactorNettyConfigurationsTests {
+
+	private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(ReactorResourceFactoryConfiguration.class));
+
+	@Test
+	void resourceFactoryUsesGlobalResourcesByDefault() {
+		this.contextRunner.run((context) -> {
+			assertThat(context).hasSingleBean(ReactorResourceFactory.class);
+			ReactorResourceFactory resourceFactory = context.getBean(ReactorResourceFactory.class);
+			assertThat(resourceFactory.isUseGlobalResources()).isTrue();
+		});
+	}
+
+	@Test
+	void resourceFactoryUsesDedicatedEventLoopWhenThreadsAreConfigured() {
+		this.contextRunner.withPropertyValues("spring.netty.event-loop.threads=3").run((context) -> {
+			ReactorResourceFactory resourceFactory = context.getBean(ReactorResourceFactory.class);
+			assertThat(resourceFactory.isUseGlobalResources()).isFalse();
+			assertThat(resourceFactory.getLoopResources()).isNotNull();
+		});
+	}
+
+	@Test
+	void resourceFactoryBacksOffWhenUserDefinesOne() {
+		this.contextRunner.withUserConfiguration(CustomResourceFactoryConfiguration.class)
+				.run((context) -> assertThat(context).hasSingleBean(ReactorResourceFactory.class)
+						.hasBean("customReactorResourceFactory"));
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	static class CustomResourceFactoryConfiguration {
+
+		@Bean
+		ReactorResourceFactory customReactorResourceFactory() {
+			return new ReactorResourceFactory();
+		}
+
+	}
+
+}
@@ -27,6 +27,7 @@ import java.util.concurrent.SynchronousQueue;
 import java.util.stream.Collectors;
 
 import org.eclipse.jetty.server.AbstractConnector;
+import org.eclipse.jetty.server.AsyncRequestLogWriter;
 import org.eclipse.jetty.server.Connector;
 import org.eclipse.jetty.server.CustomRequestLog;
 import org.eclipse.jetty.server.HttpConfiguration;
@@ -143,6 +144,17 @@ class JettyWebServerFactoryCustomizerTests {
 		assertThat(logWriter.isAppend()).isFalse();
 	}
 
+	@Test
+	void accessLogCanBeAsync() {
+		bind("server.jetty.accesslog.enabled=true", "server.jetty.accesslog.async=true");
+		JettyWebServer server = customizeAndGetServer();
+		CustomRequestLog requestLog = getRequestLog(server);
+		assertThat(requestLog.getWriter()).isInstanceOf(AsyncRequestLogWriter.class);
+		RequestLogWriter logWriter = getLogWriter(requestLog);
+		assertThat(logWriter.getFileName()).isNull();
+		assertThat(logWriter.isAppend()).isFalse();
+	}
+
 	@Test
 	void threadPoolMatchesJettyDefaults() {
 		ThreadPool defaultThreadPool = new Server(0).getThreadPool();
@@ -28,6 +28,7 @@ import org.apache.catalina.valves.RemoteIpValve;
 import org.apache.coyote.AbstractProtocol;
 import org.apache.coyote.ajp.AbstractAjpProtocol;
 import org.apache.coyote.http11.AbstractHttp11Protocol;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -36,6 +37,7 @@ import org.springframework.boot.autoconfigure.web.ServerProperties.ForwardHeader
 import org.springframework.boot.context.properties.bind.Bindable;
 import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.task.VirtualThreadExecutor;
 import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
 import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
 import org.springframework.boot.web.server.WebServer;
@@ -340,6 +342,23 @@ class TomcatWebServerFactoryCustomizerTests {
 		assertThat(this.serverProperties.getTomcat().getThreads().getMinSpare()).isEqualTo(10);
 	}
 
+	@Test
+	void virtualThreadsAreNotUsedByDefault() {
+		assertThat(this.serverProperties.getTomcat().getThreads().isVirtual()).isFalse();
+		TomcatWebServer server = customizeAndGetServer();
+		assertThat(((AbstractProtocol<?>) server.getTomcat().getConnector().getProtocolHandler()).getExecutor())
+				.isNotInstanceOf(VirtualThreadExecutor.class);
+	}
+
+	@Test
+	void customizeVirtualThreads() {
+		Assumptions.assumeTrue(VirtualThreadExecutor.isSupported());
+		bind("server.tomcat.threads.virtual=true");
+		TomcatWebServer server = customizeAndGetServer();
+		assertThat(((AbstractProtocol<?>) server.getTomcat().getConnector().getProtocolHandler()).getExecutor())
+				.isInstanceOf(VirtualThreadExecutor.class);
+	}
+
 	@Test
 	void customConnectionTimeout() {
 		bind("server.tomcat.connection-timeout=30s");
@@ -57,7 +57,7 @@ class ClientHttpConnectorAutoConfigurationTests {
 			BeanDefinition connectorDefinition = context.getBeanFactory()
 					.getBeanDefinition("reactorClientHttpConnector");
 			assertThat(connectorDefinition.isLazyInit()).isTrue();
-			assertThat(context).hasBean("reactorClientResourceFactory");
+			assertThat(context).hasBean("reactorResourceFactory");
 		});
 	}
 
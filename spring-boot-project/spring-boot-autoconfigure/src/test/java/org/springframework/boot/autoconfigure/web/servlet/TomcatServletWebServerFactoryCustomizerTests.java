@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@
 package org.springframework.boot.autoconfigure.web.servlet;
 
 import org.apache.catalina.Context;
+import org.apache.catalina.session.StandardManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -90,6 +91,16 @@ class TomcatServletWebServerFactoryCustomizerTests {
 		assertThat(context.getUseRelativeRedirects()).isTrue();
 	}
 
+	@Test
+	void maxSessionsCanBeConfigured() {
+		bind("server.tomcat.max-sessions=100");
+		assertThat(this.serverProperties.getTomcat().getMaxSessions()).isEqualTo(100);
+		TomcatWebServer server = customizeAndGetServer();
+		Context context = (Context) server.getTomcat().getHost().findChildren()[0];
+		assertThat(context.getManager()).isInstanceOf(StandardManager.class);
+		assertThat(((StandardManager) context.getManager()).getMaxActiveSessions()).isEqualTo(100);
+	}
+
 	private void bind(String... inlinedProperties) {
 		TestPropertySourceUtils.addInlinedPropertiesToEnvironment(this.environment, inlinedProperties);
 		new Binder(ConfigurationPropertySources.get(this.environment)).bind("server",
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,9 +16,13 @@
 
 package org.springframework.boot.autoconfigure.web.servlet;
 
+import io.undertow.servlet.api.DeploymentInfo;
+import io.undertow.servlet.core.InMemorySessionManagerFactory;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.task.VirtualThreadExecutor;
 import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -50,4 +54,36 @@ class UndertowServletWebServerFactoryCustomizerTests {
 		assertThat(factory.isPreservePathOnForward()).isTrue();
 	}
 
+	@Test
+	void virtualThreadsAreNotUsedByDefault() {
+		UndertowServletWebServerFactory factory = new UndertowServletWebServerFactory(0);
+		new UndertowServletWebServerFactoryCustomizer(new ServerProperties()).customize(factory);
+		assertThat(factory.getDeploymentInfoCustomizers()).isEmpty();
+	}
+
+	@Test
+	void virtualThreadsCanBeEnabled() {
+		Assumptions.assumeTrue(VirtualThreadExecutor.isSupported());
+		UndertowServletWebServerFactory factory = new UndertowServletWebServerFactory(0);
+		ServerProperties serverProperties = new ServerProperties();
+		serverProperties.getUndertow().getThreads().setVirtual(true);
+		new UndertowServletWebServerFactoryCustomizer(serverProperties).customize(factory);
+		DeploymentInfo deploymentInfo = new DeploymentInfo();
+		factory.getDeploymentInfoCustomizers().forEach((customizer) -> customizer.customize(deploymentInfo));
+		assertThat(deploymentInfo.getExecutor()).isInstanceOf(VirtualThreadExecutor.class);
+	}
+
+	@Test
+	void maxSessionsCanBeConfigured() {
+		UndertowServletWebServerFactory factory = new UndertowServletWebServerFactory(0);
+		ServerProperties serverProperties = new ServerProperties();
+		serverProperties.getUndertow().setMaxSessions(100);
+		new UndertowServletWebServerFactoryCustomizer(serverProperties).customize(factory);
+		DeploymentInfo deploymentInfo = new DeploymentInfo();
+		factory.getDeploymentInfoCustomizers().forEach((customizer) -> customizer.customize(deploymentInfo));
+		assertThat(deploymentInfo.getSessionManagerFactory()).isInstanceOf(InMemorySessionManagerFactory.class)
+				.hasFieldOrPropertyWithValue("maxSessions", 100)
+				.hasFieldOrPropertyWithValue("expireOldestUnusedSessionOnMax", true);
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -50,29 +50,52 @@ class DirectorySnapshot {
 	 * @param directory the source directory
 	 */
 	DirectorySnapshot(File directory) {
+		this(directory, null);
+	}
+
+	/**
+	 * Create a new {@link DirectorySnapshot} for the given directory, reusing the file
+	 * snapshots of a previous snapshot for files that have not changed. Files that have
+	 * changed since the previous snapshot also record a hash of their content so that
+	 * later changes that do not alter the content can be ignored.
+	 * @param directory the source directory
+	 * @param previous the previous snapshot of the same directory or {@code null}
+	 */
+	DirectorySnapshot(File directory, DirectorySnapshot previous) {
 		Assert.notNull(directory, "Directory must not be null");
 		Assert.isTrue(!directory.isFile(), () -> "Directory '" + directory + "' must not be a file");
+		Assert.isTrue(previous == null || previous.directory.equals(directory),
+				() -> "Previous snapshot source directory must be '" + directory + "'");
 		this.directory = directory;
 		this.time = new Date();
 		Set<FileSnapshot> files = new LinkedHashSet<>();
-		collectFiles(directory, files);
+		collectFiles(directory, (previous != null) ? previous.getFilesMap() : null, files);
 		this.files = Collections.unmodifiableSet(files);
 	}
 
-	private void collectFiles(File source, Set<FileSnapshot> result) {
+	private void collectFiles(File source, Map<File, FileSnapshot> previousFiles, Set<FileSnapshot> result) {
 		File[] children = source.listFiles();
 		if (children != null) {
 			for (File child : children) {
 				if (child.isDirectory() && !DOTS.contains(child.getName())) {
-					collectFiles(child, result);
+					collectFiles(child, previousFiles, result);
 				}
 				else if (child.isFile()) {
-					result.add(new FileSnapshot(child));
+					result.add(getFileSnapshot(child, previousFiles));
 				}
 			}
 		}
 	}
 
+	private FileSnapshot getFileSnapshot(File file, Map<File, FileSnapshot> previousFiles) {
+		FileSnapshot snapshot = new FileSnapshot(file);
+		if (previousFiles == null) {
+			return snapshot;
+		}
+		FileSnapshot previous = previousFiles.get(file);
+		return snapshot.equals(previous) ? previous : snapshot.withContentHash();
+	}
+
 	ChangedFiles getChangedFiles(DirectorySnapshot snapshot, FileFilter triggerFilter) {
 		Assert.notNull(snapshot, "Snapshot must not be null");
 		File directory = this.directory;
@@ -86,7 +109,7 @@ class DirectorySnapshot {
 				if (previousFile == null) {
 					changes.add(new ChangedFile(directory, currentFile.getFile(), Type.ADD));
 				}
-				else if (!previousFile.equals(currentFile)) {
+				else if (!previousFile.equals(currentFile) && !previousFile.hasSameContent(currentFile)) {
 					changes.add(new ChangedFile(directory, currentFile.getFile(), Type.MODIFY));
 				}
 			}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.devtools.filewatch;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Uses a {@link WatchService} to find out when the content of the source directories
+ * might have changed so that snapshots only need to be taken after a change. Whenever
+ * events cannot be relied upon, for example because a source directory does not exist
+ * yet or because events have been lost, every call to {@link #awaitChange(long)} reports a
+ * possible change so that callers fall back to polling until the affected source
+ * directories have been registered again.
+ *
+ * @author agent
+ */
+final class DirectoryWatcher {
+
+	private static final WatchEvent.Kind<?>[] EVENT_KINDS = { StandardWatchEventKinds.ENTRY_CREATE,
+			StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY };
+
+	private final WatchService watchService;
+
+	private final List<Path> roots = new ArrayList<>();
+
+	private final Set<Path> unregisteredRoots = new HashSet<>();
+
+	DirectoryWatcher(WatchService watchService, Collection<File> directories) {
+		this.watchService = watchService;
+		for (File directory : directories) {
+			Path root = directory.toPath();
+			this.roots.add(root);
+			this.unregisteredRoots.add(root);
+		}
+	}
+
+	/**
+	 * Register all existing source directories and their subdirectories.
+	 * @throws IOException if a directory cannot be registered
+	 */
+	void register() throws IOException {
+		for (Path root : this.roots) {
+			if (this.unregisteredRoots.contains(root) && Files.isDirectory(root)) {
+				registerAll(root);
+				this.unregisteredRoots.remove(root);
+			}
+		}
+	}
+
+	/**
+	 * Wait for the given amount of time for a change to be reported.
+	 * @param timeout the maximum time to wait in milliseconds
+	 * @return {@code true} if the source directories might have changed
+	 * @throws IOException if a newly created directory cannot be registered
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	boolean awaitChange(long timeout) throws IOException, InterruptedException {
+		if (!this.unregisteredRoots.isEmpty()) {
+			Thread.sleep(timeout);
+			register();
+			return true;
+		}
+		WatchKey key = this.watchService.poll(timeout, TimeUnit.MILLISECONDS);
+		if (key == null) {
+			return false;
+		}
+		while (key != null) {
+			processEvents(key);
+			key = this.watchService.poll();
+		}
+		return true;
+	}
+
+	void processEvents(WatchKey key) throws IOException {
+		Path directory = (Path) key.watchable();
+		for (WatchEvent<?> event : key.pollEvents()) {
+			if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+				// The creation of a directory that now needs to be registered may have been lost
+				unregisterRootsOf(directory);
+			}
+			else if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE) {
+				Path created = directory.resolve((Path) event.context());
+				if (Files.isDirectory(created)) {
+					registerAll(created);
+				}
+			}
+		}
+		if (!key.reset() && this.roots.contains(directory)) {
+			this.unregisteredRoots.add(directory);
+		}
+	}
+
+	private void unregisterRootsOf(Path directory) {
+		for (Path root : this.roots) {
+			if (directory.startsWith(root)) {
+				this.unregisteredRoots.add(root);
+			}
+		}
+	}
+
+	private void registerAll(Path directory) throws IOException {
+		Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+
+			@Override
+			public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) throws IOException {
+				try {
+					dir.register(DirectoryWatcher.this.watchService, EVENT_KINDS);
+					return FileVisitResult.CONTINUE;
+				}
+				catch (NoSuchFileException ex) {
+					return FileVisitResult.SKIP_SUBTREE;
+				}
+			}
+
+			@Override
+			public FileVisitResult visitFileFailed(Path file, IOException ex) {
+				return FileVisitResult.CONTINUE;
+			}
+
+		});
+	}
+
+	/**
+	 * Close the underlying {@link WatchService}.
+	 */
+	void close() {
+		try {
+			this.watchService.close();
+		}
+		catch (IOException ex) {
+			// Ignore
+		}
+	}
+
+	/**
+	 * Create a new {@link DirectoryWatcher} for the given directories or return
+	 * {@code null} if the file system does not offer native change notifications.
+	 * @param directories the source directories
+	 * @return a {@link DirectoryWatcher} or {@code null}
+	 */
+	static DirectoryWatcher create(Collection<File> directories) {
+		WatchService watchService;
+		try {
+			watchService = FileSystems.getDefault().newWatchService();
+		}
+		catch (IOException | UnsupportedOperationException ex) {
+			return null;
+		}
+		DirectoryWatcher watcher = new DirectoryWatcher(watchService, directories);
+		if (watchService.getClass().getName().endsWith("PollingWatchService")) {
+			// The JDK's fallback implementation polls less often than we do
+			watcher.close();
+			return null;
+		}
+		return watcher;
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,8 +17,13 @@
 package org.springframework.boot.devtools.filewatch;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Arrays;
 
 import org.springframework.util.Assert;
+import org.springframework.util.DigestUtils;
 
 /**
  * A snapshot of a File at a given point in time.
@@ -35,6 +40,8 @@ class FileSnapshot {
 
 	private final long lastModified;
 
+	private final byte[] contentHash;
+
 	FileSnapshot(File file) {
 		Assert.notNull(file, "File must not be null");
 		Assert.isTrue(file.isFile() || !file.exists(), "File must not be a directory");
@@ -42,12 +49,49 @@ class FileSnapshot {
 		this.exists = file.exists();
 		this.length = file.length();
 		this.lastModified = file.lastModified();
+		this.contentHash = null;
+	}
+
+	private FileSnapshot(FileSnapshot snapshot, byte[] contentHash) {
+		this.file = snapshot.file;
+		this.exists = snapshot.exists;
+		this.length = snapshot.length;
+		this.lastModified = snapshot.lastModified;
+		this.contentHash = contentHash;
 	}
 
 	File getFile() {
 		return this.file;
 	}
 
+	/**
+	 * Return a copy of this snapshot that also records a hash of the file's content.
+	 * @return a snapshot with a content hash or this snapshot if the content could not
+	 * be read
+	 */
+	FileSnapshot withContentHash() {
+		if (!this.exists) {
+			return this;
+		}
+		try (InputStream inputStream = Files.newInputStream(this.file.toPath())) {
+			return new FileSnapshot(this, DigestUtils.md5Digest(inputStream));
+		}
+		catch (IOException ex) {
+			return this;
+		}
+	}
+
+	/**
+	 * Return whether the given snapshot is known to have the same content as this one,
+	 * regardless of its last modified time.
+	 * @param other the snapshot to compare with
+	 * @return {@code true} if both snapshots recorded the same content
+	 */
+	boolean hasSameContent(FileSnapshot other) {
+		return this.contentHash != null && other.contentHash != null && this.length == other.length
+				&& Arrays.equals(this.contentHash, other.contentHash);
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if (this == obj) {
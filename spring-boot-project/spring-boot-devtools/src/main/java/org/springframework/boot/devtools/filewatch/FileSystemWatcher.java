@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@ package org.springframework.boot.devtools.filewatch;
 
 import java.io.File;
 import java.io.FileFilter;
+import java.io.IOException;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -64,6 +65,8 @@ public class FileSystemWatcher {
 
 	private FileFilter triggerFilter;
 
+	private boolean useWatchService;
+
 	private final Object monitor = new Object();
 
 	/**
@@ -157,6 +160,21 @@ public class FileSystemWatcher {
 		}
 	}
 
+	/**
+	 * Set whether a {@link java.nio.file.WatchService} should be used to detect changes.
+	 * When enabled, and the file system offers native change notifications, snapshots
+	 * are only taken after a change has been reported rather than on every poll. Cannot
+	 * be called after the watcher has been {@link #start() started}.
+	 * @param useWatchService if a watch service should be used
+	 * @since 2.5.0
+	 */
+	public void setUseWatchService(boolean useWatchService) {
+		synchronized (this.monitor) {
+			checkNotStarted();
+			this.useWatchService = useWatchService;
+		}
+	}
+
 	private void checkNotStarted() {
 		synchronized (this.monitor) {
 			Assert.state(this.watchThread == null, "FileSystemWatcher already started");
@@ -171,8 +189,11 @@ public class FileSystemWatcher {
 			createOrRestoreInitialSnapshots();
 			if (this.watchThread == null) {
 				Map<File, DirectorySnapshot> localDirectories = new HashMap<>(this.directories);
+				DirectoryWatcher directoryWatcher = (this.useWatchService)
+						? createDirectoryWatcher(localDirectories.keySet()) : null;
 				Watcher watcher = new Watcher(this.remainingScans, new ArrayList<>(this.listeners), this.triggerFilter,
-						this.pollInterval, this.quietPeriod, localDirectories, this.snapshotStateRepository);
+						this.pollInterval, this.quietPeriod, localDirectories, this.snapshotStateRepository,
+						directoryWatcher);
 				this.watchThread = new Thread(watcher);
 				this.watchThread.setName("File Watcher");
 				this.watchThread.setDaemon(this.daemon);
@@ -181,6 +202,20 @@ public class FileSystemWatcher {
 		}
 	}
 
+	private DirectoryWatcher createDirectoryWatcher(Collection<File> directories) {
+		DirectoryWatcher directoryWatcher = DirectoryWatcher.create(directories);
+		if (directoryWatcher != null) {
+			try {
+				directoryWatcher.register();
+			}
+			catch (IOException ex) {
+				directoryWatcher.close();
+				return null;
+			}
+		}
+		return directoryWatcher;
+	}
+
 	@SuppressWarnings("unchecked")
 	private void createOrRestoreInitialSnapshots() {
 		Map<File, DirectorySnapshot> restored = (Map<File, DirectorySnapshot>) this.snapshotStateRepository.restore();
@@ -239,9 +274,13 @@ public class FileSystemWatcher {
 
 		private SnapshotStateRepository snapshotStateRepository;
 
+		private DirectoryWatcher directoryWatcher;
+
+		private boolean initialScan = true;
+
 		private Watcher(AtomicInteger remainingScans, List<FileChangeListener> listeners, FileFilter triggerFilter,
 				long pollInterval, long quietPeriod, Map<File, DirectorySnapshot> directories,
-				SnapshotStateRepository snapshotStateRepository) {
+				SnapshotStateRepository snapshotStateRepository, DirectoryWatcher directoryWatcher) {
 			this.remainingScans = remainingScans;
 			this.listeners = listeners;
 			this.triggerFilter = triggerFilter;
@@ -249,33 +288,42 @@ public class FileSystemWatcher {
 			this.quietPeriod = quietPeriod;
 			this.directories = directories;
 			this.snapshotStateRepository = snapshotStateRepository;
-
+			this.directoryWatcher = directoryWatcher;
 		}
 
 		@Override
 		public void run() {
-			int remainingScans = this.remainingScans.get();
-			while (remainingScans > 0 || remainingScans == -1) {
-				try {
-					if (remainingScans > 0) {
-						this.remainingScans.decrementAndGet();
+			try {
+				int remainingScans = this.remainingScans.get();
+				while (remainingScans > 0 || remainingScans == -1) {
+					try {
+						if (remainingScans > 0) {
+							this.remainingScans.decrementAndGet();
+						}
+						scan();
 					}
-					scan();
+					catch (InterruptedException ex) {
+						Thread.currentThread().interrupt();
+					}
+					remainingScans = this.remainingScans.get();
 				}
-				catch (InterruptedException ex) {
-					Thread.currentThread().interrupt();
+			}
+			finally {
+				if (this.directoryWatcher != null) {
+					this.directoryWatcher.close();
 				}
-				remainingScans = this.remainingScans.get();
 			}
 		}
 
 		private void scan() throws InterruptedException {
-			Thread.sleep(this.pollInterval - this.quietPeriod);
+			if (!awaitChange()) {
+				return;
+			}
 			Map<File, DirectorySnapshot> previous;
 			Map<File, DirectorySnapshot> current = this.directories;
 			do {
 				previous = current;
-				current = getCurrentSnapshots();
+				current = getCurrentSnapshots(previous);
 				Thread.sleep(this.quietPeriod);
 			}
 			while (isDifferent(previous, current));
@@ -284,6 +332,24 @@ public class FileSystemWatcher {
 			}
 		}
 
+		private boolean awaitChange() throws InterruptedException {
+			long timeout = this.pollInterval - this.quietPeriod;
+			if (this.directoryWatcher != null && !this.initialScan) {
+				try {
+					return this.directoryWatcher.awaitChange(timeout);
+				}
+				catch (IOException ex) {
+					this.directoryWatcher.close();
+					this.directoryWatcher = null;
+					return true;
+				}
+			}
+			// Always scan once so that changes against restored snapshots are found
+			this.initialScan = false;
+			Thread.sleep(timeout);
+			return true;
+		}
+
 		private boolean isDifferent(Map<File, DirectorySnapshot> previous, Map<File, DirectorySnapshot> current) {
 			if (!previous.keySet().equals(current.keySet())) {
 				return true;
@@ -298,10 +364,10 @@ public class FileSystemWatcher {
 			return false;
 		}
 
-		private Map<File, DirectorySnapshot> getCurrentSnapshots() {
+		private Map<File, DirectorySnapshot> getCurrentSnapshots(Map<File, DirectorySnapshot> previous) {
 			Map<File, DirectorySnapshot> snapshots = new LinkedHashMap<>();
 			for (File directory : this.directories.keySet()) {
-				snapshots.put(directory, new DirectorySnapshot(directory));
+				snapshots.put(directory, new DirectorySnapshot(directory, previous.get(directory)));
 			}
 			return snapshots;
 		}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,13 +16,16 @@
 
 package org.springframework.boot.devtools.livereload;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
-import java.net.Socket;
 import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -33,7 +36,8 @@ import org.springframework.core.log.LogMessage;
 import org.springframework.util.Base64Utils;
 
 /**
- * A {@link LiveReloadServer} connection.
+ * A {@link LiveReloadServer} connection. Connections are non-blocking and are driven
+ * by the single selector thread of the server.
  *
  * @author Phillip Webb
  */
@@ -45,82 +49,181 @@ class Connection {
 
 	public static final String WEBSOCKET_GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
 
-	private final Socket socket;
+	private static final byte[] HEADER_END = "\r\n\r\n".getBytes();
 
-	private final ConnectionInputStream inputStream;
+	private static final int BUFFER_SIZE = 4096;
 
-	private final ConnectionOutputStream outputStream;
+	private static final long READ_TIMEOUT = TimeUnit.SECONDS.toMillis(4);
 
-	private final String header;
+	private final SocketChannel channel;
 
-	private volatile boolean webSocket;
+	private final ByteArrayOutputStream output = new ByteArrayOutputStream();
 
-	private volatile boolean running = true;
+	private final ConnectionOutputStream outputStream = new ConnectionOutputStream(this.output);
+
+	private ByteBuffer inputBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+	private ByteBuffer outputBuffer;
+
+	private SelectionKey key;
+
+	private String header;
+
+	private boolean webSocket;
+
+	private boolean closeWhenWritten;
+
+	private boolean awaitingPong;
+
+	private long lastReadTime = System.currentTimeMillis();
 
 	/**
 	 * Create a new {@link Connection} instance.
-	 * @param socket the source socket
-	 * @param inputStream the socket input stream
-	 * @param outputStream the socket output stream
+	 * @param channel the source channel
+	 */
+	Connection(SocketChannel channel) {
+		this.channel = channel;
+	}
+
+	/**
+	 * Register the connection with the given selector.
+	 * @param selector the selector
 	 * @throws IOException in case of I/O errors
 	 */
-	Connection(Socket socket, InputStream inputStream, OutputStream outputStream) throws IOException {
-		this.socket = socket;
-		this.inputStream = new ConnectionInputStream(inputStream);
-		this.outputStream = new ConnectionOutputStream(outputStream);
-		this.header = this.inputStream.readHeader();
-		logger.debug(LogMessage.format("Established livereload connection [%s]", this.header));
+	void register(Selector selector) throws IOException {
+		this.channel.configureBlocking(false);
+		this.key = this.channel.register(selector, SelectionKey.OP_READ, this);
 	}
 
 	/**
-	 * Run the connection.
-	 * @throws Exception in case of errors
+	 * Read and process any data that is available from the channel.
+	 * @throws IOException in case of I/O errors
 	 */
-	void run() throws Exception {
+	void read() throws IOException {
+		if (this.channel.read(this.inputBuffer) == -1) {
+			throw new IOException("End of stream");
+		}
+		this.lastReadTime = System.currentTimeMillis();
+		this.inputBuffer.flip();
+		try {
+			process();
+		}
+		finally {
+			this.inputBuffer.compact();
+		}
+		if (!this.inputBuffer.hasRemaining()) {
+			ByteBuffer inputBuffer = ByteBuffer.allocate(this.inputBuffer.capacity() * 2);
+			this.inputBuffer.flip();
+			inputBuffer.put(this.inputBuffer);
+			this.inputBuffer = inputBuffer;
+		}
+		write();
+	}
+
+	private void process() throws IOException {
+		if (this.header == null) {
+			this.header = readHeader();
+			if (this.header == null) {
+				return;
+			}
+			logger.debug(LogMessage.format("Established livereload connection [%s]", this.header));
+			processHeader();
+		}
+		if (this.webSocket) {
+			Frame frame = Frame.read(this.inputBuffer);
+			while (frame != null) {
+				processWebSocketFrame(frame);
+				frame = Frame.read(this.inputBuffer);
+			}
+		}
+	}
+
+	/**
+	 * Read the HTTP header from the input buffer. Note: This method doesn't expect any
+	 * HTTP content after the header since the initial request is usually just a
+	 * WebSocket upgrade.
+	 * @return the HTTP header or {@code null} if the header is not yet complete
+	 */
+	private String readHeader() {
+		int start = this.inputBuffer.position();
+		for (int i = start; i <= this.inputBuffer.limit() - HEADER_END.length; i++) {
+			if (isHeaderEnd(i)) {
+				byte[] header = new byte[i - start];
+				this.inputBuffer.get(header);
+				this.inputBuffer.position(i + HEADER_END.length);
+				return new String(header);
+			}
+		}
+		return null;
+	}
+
+	private boolean isHeaderEnd(int index) {
+		for (int i = 0; i < HEADER_END.length; i++) {
+			if (this.inputBuffer.get(index + i) != HEADER_END[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void processHeader() throws IOException {
 		if (this.header.contains("Upgrade: websocket") && this.header.contains("Sec-WebSocket-Version: 13")) {
-			runWebSocket();
+			startWebSocket();
 		}
-		if (this.header.contains("GET /livereload.js")) {
-			this.outputStream.writeHttp(getClass().getResourceAsStream("livereload.js"), "text/javascript");
+		else {
+			if (this.header.contains("GET /livereload.js")) {
+				this.outputStream.writeHttp(getClass().getResourceAsStream("livereload.js"), "text/javascript");
+			}
+			this.closeWhenWritten = true;
 		}
 	}
 
-	private void runWebSocket() throws Exception {
+	private void startWebSocket() throws IOException {
 		String accept = getWebsocketAcceptResponse();
 		this.outputStream.writeHeaders("HTTP/1.1 101 Switching Protocols", "Upgrade: websocket", "Connection: Upgrade",
 				"Sec-WebSocket-Accept: " + accept);
 		new Frame("{\"command\":\"hello\",\"protocols\":[\"http://livereload.com/protocols/official-7\"],"
 				+ "\"serverName\":\"spring-boot\"}").write(this.outputStream);
-		Thread.sleep(100);
 		this.webSocket = true;
-		while (this.running) {
-			readWebSocketFrame();
+	}
+
+	private void processWebSocketFrame(Frame frame) throws IOException {
+		if (frame.getType() == Frame.Type.PING) {
+			writeWebSocketFrame(new Frame(Frame.Type.PONG));
+		}
+		else if (frame.getType() == Frame.Type.PONG) {
+			this.awaitingPong = false;
+		}
+		else if (frame.getType() == Frame.Type.CLOSE) {
+			throw new ConnectionClosedException();
+		}
+		else if (frame.getType() == Frame.Type.TEXT) {
+			logger.debug(LogMessage.format("Received LiveReload text frame %s", frame));
+		}
+		else {
+			throw new IOException("Unexpected Frame Type " + frame.getType());
 		}
 	}
 
-	private void readWebSocketFrame() throws IOException {
-		try {
-			Frame frame = Frame.read(this.inputStream);
-			if (frame.getType() == Frame.Type.PING) {
-				writeWebSocketFrame(new Frame(Frame.Type.PONG));
-			}
-			else if (frame.getType() == Frame.Type.CLOSE) {
-				throw new ConnectionClosedException();
-			}
-			else if (frame.getType() == Frame.Type.TEXT) {
-				logger.debug(LogMessage.format("Received LiveReload text frame %s", frame));
-			}
-			else {
-				throw new IOException("Unexpected Frame Type " + frame.getType());
-			}
+	/**
+	 * Check that the client has not been idle for too long, sending a ping if it has.
+	 * @param now the current time in milliseconds
+	 * @throws IOException in case of I/O errors or if the client is unresponsive
+	 */
+	void checkTimeout(long now) throws IOException {
+		if (now - this.lastReadTime < READ_TIMEOUT) {
+			return;
 		}
-		catch (SocketTimeoutException ex) {
-			writeWebSocketFrame(new Frame(Frame.Type.PING));
-			Frame frame = Frame.read(this.inputStream);
-			if (frame.getType() != Frame.Type.PONG) {
-				throw new IllegalStateException("No Pong");
-			}
+		if (!this.webSocket) {
+			throw new SocketTimeoutException("Read timed out");
+		}
+		if (this.awaitingPong) {
+			throw new IllegalStateException("No Pong");
 		}
+		this.awaitingPong = true;
+		this.lastReadTime = now;
+		writeWebSocketFrame(new Frame(Frame.Type.PING));
+		write();
 	}
 
 	/**
@@ -131,6 +234,7 @@ class Connection {
 		if (this.webSocket) {
 			logger.debug("Triggering LiveReload");
 			writeWebSocketFrame(new Frame("{\"command\":\"reload\",\"path\":\"/\"}"));
+			write();
 		}
 	}
 
@@ -138,15 +242,45 @@ class Connection {
 		frame.write(this.outputStream);
 	}
 
-	private String getWebsocketAcceptResponse() throws NoSuchAlgorithmException {
+	/**
+	 * Write as much pending output as the channel will accept without blocking. Any
+	 * remaining output is written once the channel becomes writable again.
+	 * @throws IOException in case of I/O errors
+	 */
+	void write() throws IOException {
+		while (this.outputBuffer != null || this.output.size() > 0) {
+			if (this.outputBuffer == null) {
+				this.outputBuffer = ByteBuffer.wrap(this.output.toByteArray());
+				this.output.reset();
+			}
+			this.channel.write(this.outputBuffer);
+			if (this.outputBuffer.hasRemaining()) {
+				break;
+			}
+			this.outputBuffer = null;
+		}
+		if (this.outputBuffer == null && this.closeWhenWritten) {
+			close();
+			return;
+		}
+		this.key.interestOps((this.outputBuffer != null) ? SelectionKey.OP_READ | SelectionKey.OP_WRITE
+				: SelectionKey.OP_READ);
+	}
+
+	private String getWebsocketAcceptResponse() {
 		Matcher matcher = WEBSOCKET_KEY_PATTERN.matcher(this.header);
 		if (!matcher.find()) {
 			throw new IllegalStateException("No Sec-WebSocket-Key");
 		}
 		String response = matcher.group(1).trim() + WEBSOCKET_GUID;
-		MessageDigest messageDigest = MessageDigest.getInstance("SHA-1");
-		messageDigest.update(response.getBytes(), 0, response.length());
-		return Base64Utils.encodeToString(messageDigest.digest());
+		try {
+			MessageDigest messageDigest = MessageDigest.getInstance("SHA-1");
+			messageDigest.update(response.getBytes(), 0, response.length());
+			return Base64Utils.encodeToString(messageDigest.digest());
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
 	}
 
 	/**
@@ -154,8 +288,7 @@ class Connection {
 	 * @throws IOException in case of I/O errors
 	 */
 	void close() throws IOException {
-		this.running = false;
-		this.socket.close();
+		this.channel.close();
 	}
 
 }
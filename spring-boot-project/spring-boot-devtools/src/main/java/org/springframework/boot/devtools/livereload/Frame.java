@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@ package org.springframework.boot.devtools.livereload;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 import org.springframework.util.Assert;
 
@@ -83,22 +84,44 @@ class Frame {
 		outputStream.flush();
 	}
 
-	static Frame read(ConnectionInputStream inputStream) throws IOException {
-		int firstByte = inputStream.checkedRead();
+	/**
+	 * Read a frame from the given buffer. If the buffer does not yet contain a complete
+	 * frame, {@code null} is returned and the position of the buffer is left unchanged.
+	 * @param buffer the source buffer
+	 * @return the frame or {@code null}
+	 */
+	static Frame read(ByteBuffer buffer) {
+		int start = buffer.position();
+		if (!buffer.hasRemaining()) {
+			return null;
+		}
+		int firstByte = buffer.get() & 0xFF;
 		Assert.state((firstByte & 0x80) != 0, "Fragmented frames are not supported");
-		int maskAndLength = inputStream.checkedRead();
+		if (!buffer.hasRemaining()) {
+			buffer.position(start);
+			return null;
+		}
+		int maskAndLength = buffer.get() & 0xFF;
 		boolean hasMask = (maskAndLength & 0x80) != 0;
 		int length = (maskAndLength & 0x7F);
 		Assert.state(length != 127, "Large frames are not supported");
 		if (length == 126) {
-			length = ((inputStream.checkedRead()) << 8 | inputStream.checkedRead());
+			if (buffer.remaining() < 2) {
+				buffer.position(start);
+				return null;
+			}
+			length = buffer.getShort() & 0xFFFF;
+		}
+		if (buffer.remaining() < (hasMask ? 4 : 0) + length) {
+			buffer.position(start);
+			return null;
 		}
 		byte[] mask = new byte[4];
 		if (hasMask) {
-			inputStream.readFully(mask, 0, mask.length);
+			buffer.get(mask);
 		}
 		byte[] payload = new byte[length];
-		inputStream.readFully(payload, 0, length);
+		buffer.get(payload);
 		if (hasMask) {
 			for (int i = 0; i < payload.length; i++) {
 				payload[i] ^= mask[i % 4];
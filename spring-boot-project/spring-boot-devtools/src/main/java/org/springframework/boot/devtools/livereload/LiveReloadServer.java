@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,18 +17,16 @@
 package org.springframework.boot.devtools.livereload;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
-import java.net.ServerSocket;
-import java.net.Socket;
-import java.net.SocketTimeoutException;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.net.InetSocketAddress;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -37,7 +35,8 @@ import org.springframework.core.log.LogMessage;
 import org.springframework.util.Assert;
 
 /**
- * A <a href="https://github.com/livereload">livereload</a> server.
+ * A <a href="https://github.com/livereload">livereload</a> server. All connections are
+ * served by a single thread using non-blocking I/O.
  *
  * @author Phillip Webb
  * @since 1.3.0
@@ -51,11 +50,9 @@ public class LiveReloadServer {
 
 	private static final Log logger = LogFactory.getLog(LiveReloadServer.class);
 
-	private static final int READ_TIMEOUT = (int) TimeUnit.SECONDS.toMillis(4);
+	private static final long SELECT_TIMEOUT = TimeUnit.SECONDS.toMillis(1);
 
-	private final ExecutorService executor = Executors.newCachedThreadPool(new WorkerThreadFactory());
-
-	private final List<Connection> connections = new ArrayList<>();
+	private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
 
 	private final Object monitor = new Object();
 
@@ -63,10 +60,14 @@ public class LiveReloadServer {
 
 	private final ThreadFactory threadFactory;
 
-	private ServerSocket serverSocket;
+	private Selector selector;
+
+	private ServerSocketChannel serverChannel;
 
 	private Thread listenThread;
 
+	private volatile boolean running;
+
 	/**
 	 * Create a new {@link LiveReloadServer} listening on the default port.
 	 */
@@ -111,9 +112,14 @@ public class LiveReloadServer {
 		synchronized (this.monitor) {
 			Assert.state(!isStarted(), "Server already started");
 			logger.debug(LogMessage.format("Starting live reload server on port %s", this.port));
-			this.serverSocket = new ServerSocket(this.port);
-			int localPort = this.serverSocket.getLocalPort();
-			this.listenThread = this.threadFactory.newThread(this::acceptConnections);
+			this.selector = Selector.open();
+			this.serverChannel = ServerSocketChannel.open();
+			this.serverChannel.bind(new InetSocketAddress(this.port));
+			this.serverChannel.configureBlocking(false);
+			this.serverChannel.register(this.selector, SelectionKey.OP_ACCEPT);
+			int localPort = this.serverChannel.socket().getLocalPort();
+			this.running = true;
+			this.listenThread = this.threadFactory.newThread(this::run);
 			this.listenThread.setDaemon(true);
 			this.listenThread.setName("Live Reload Server");
 			this.listenThread.start();
@@ -139,15 +145,14 @@ public class LiveReloadServer {
 		return this.port;
 	}
 
-	private void acceptConnections() {
-		do {
+	private void run() {
+		while (this.running) {
 			try {
-				Socket socket = this.serverSocket.accept();
-				socket.setSoTimeout(READ_TIMEOUT);
-				this.executor.execute(new ConnectionHandler(socket));
-			}
-			catch (SocketTimeoutException ex) {
-				// Ignore
+				this.selector.select(SELECT_TIMEOUT);
+				runTasks();
+				handleSelectedKeys();
+				long now = System.currentTimeMillis();
+				forEachConnection((connection) -> connection.checkTimeout(now));
 			}
 			catch (Exception ex) {
 				if (logger.isDebugEnabled()) {
@@ -155,7 +160,82 @@ public class LiveReloadServer {
 				}
 			}
 		}
-		while (!this.serverSocket.isClosed());
+		forEachConnection(Connection::close);
+	}
+
+	private void runTasks() {
+		Runnable task = this.tasks.poll();
+		while (task != null) {
+			task.run();
+			task = this.tasks.poll();
+		}
+	}
+
+	private void handleSelectedKeys() throws IOException {
+		Iterator<SelectionKey> iterator = this.selector.selectedKeys().iterator();
+		while (iterator.hasNext()) {
+			SelectionKey key = iterator.next();
+			iterator.remove();
+			if (key.isValid() && key.isAcceptable()) {
+				acceptConnection();
+			}
+			else if (key.isValid()) {
+				handle((Connection) key.attachment(), (connection) -> {
+					if (key.isReadable()) {
+						connection.read();
+					}
+					else if (key.isWritable()) {
+						connection.write();
+					}
+				});
+			}
+		}
+	}
+
+	private void acceptConnection() throws IOException {
+		SocketChannel channel = this.serverChannel.accept();
+		if (channel != null) {
+			try {
+				createConnection(channel).register(this.selector);
+			}
+			catch (IOException ex) {
+				channel.close();
+				throw ex;
+			}
+		}
+	}
+
+	private void forEachConnection(ConnectionCallback callback) {
+		for (SelectionKey key : this.selector.keys()) {
+			if (key.isValid() && key.attachment() instanceof Connection) {
+				handle((Connection) key.attachment(), callback);
+			}
+		}
+	}
+
+	private void handle(Connection connection, ConnectionCallback callback) {
+		try {
+			callback.handle(connection);
+		}
+		catch (ConnectionClosedException ex) {
+			logger.debug("LiveReload connection closed");
+			close(connection);
+		}
+		catch (Exception ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("LiveReload error", ex);
+			}
+			close(connection);
+		}
+	}
+
+	private void close(Connection connection) {
+		try {
+			connection.close();
+		}
+		catch (IOException ex) {
+			// Ignore
+		}
 	}
 
 	/**
@@ -165,31 +245,20 @@ public class LiveReloadServer {
 	public void stop() throws IOException {
 		synchronized (this.monitor) {
 			if (this.listenThread != null) {
-				closeAllConnections();
-				try {
-					this.executor.shutdown();
-					this.executor.awaitTermination(1, TimeUnit.MINUTES);
-				}
-				catch (InterruptedException ex) {
-					Thread.currentThread().interrupt();
-				}
-				this.serverSocket.close();
+				this.running = false;
+				this.selector.wakeup();
 				try {
 					this.listenThread.join();
 				}
 				catch (InterruptedException ex) {
 					Thread.currentThread().interrupt();
 				}
+				this.serverChannel.close();
+				this.selector.close();
+				this.tasks.clear();
 				this.listenThread = null;
-				this.serverSocket = null;
-			}
-		}
-	}
-
-	private void closeAllConnections() throws IOException {
-		synchronized (this.connections) {
-			for (Connection connection : this.connections) {
-				connection.close();
+				this.serverChannel = null;
+				this.selector = null;
 			}
 		}
 	}
@@ -199,116 +268,30 @@ public class LiveReloadServer {
 	 */
 	public void triggerReload() {
 		synchronized (this.monitor) {
-			synchronized (this.connections) {
-				for (Connection connection : this.connections) {
-					try {
-						connection.triggerReload();
-					}
-					catch (Exception ex) {
-						logger.debug("Unable to send reload message", ex);
-					}
-				}
+			if (this.listenThread != null) {
+				this.tasks.add(() -> forEachConnection(Connection::triggerReload));
+				this.selector.wakeup();
 			}
 		}
 	}
 
-	private void addConnection(Connection connection) {
-		synchronized (this.connections) {
-			this.connections.add(connection);
-		}
-	}
-
-	private void removeConnection(Connection connection) {
-		synchronized (this.connections) {
-			this.connections.remove(connection);
-		}
-	}
-
 	/**
 	 * Factory method used to create the {@link Connection}.
-	 * @param socket the source socket
-	 * @param inputStream the socket input stream
-	 * @param outputStream the socket output stream
+	 * @param channel the source channel
 	 * @return a connection
 	 * @throws IOException in case of I/O errors
 	 */
-	protected Connection createConnection(Socket socket, InputStream inputStream, OutputStream outputStream)
-			throws IOException {
-		return new Connection(socket, inputStream, outputStream);
-	}
-
-	/**
-	 * {@link Runnable} to handle a single connection.
-	 *
-	 * @see Connection
-	 */
-	private class ConnectionHandler implements Runnable {
-
-		private final Socket socket;
-
-		private final InputStream inputStream;
-
-		ConnectionHandler(Socket socket) throws IOException {
-			this.socket = socket;
-			this.inputStream = socket.getInputStream();
-		}
-
-		@Override
-		public void run() {
-			try {
-				handle();
-			}
-			catch (ConnectionClosedException ex) {
-				logger.debug("LiveReload connection closed");
-			}
-			catch (Exception ex) {
-				if (logger.isDebugEnabled()) {
-					logger.debug("LiveReload error", ex);
-				}
-			}
-		}
-
-		private void handle() throws Exception {
-			try {
-				try (OutputStream outputStream = this.socket.getOutputStream()) {
-					Connection connection = createConnection(this.socket, this.inputStream, outputStream);
-					runConnection(connection);
-				}
-				finally {
-					this.inputStream.close();
-				}
-			}
-			finally {
-				this.socket.close();
-			}
-		}
-
-		private void runConnection(Connection connection) throws Exception {
-			try {
-				addConnection(connection);
-				connection.run();
-			}
-			finally {
-				removeConnection(connection);
-			}
-		}
-
+	protected Connection createConnection(SocketChannel channel) throws IOException {
+		return new Connection(channel);
 	}
 
 	/**
-	 * {@link ThreadFactory} to create the worker threads.
+	 * Callback used to operate on a {@link Connection}.
 	 */
-	private static class WorkerThreadFactory implements ThreadFactory {
+	@FunctionalInterface
+	private interface ConnectionCallback {
 
-		private final AtomicInteger threadNumber = new AtomicInteger(1);
-
-		@Override
-		public Thread newThread(Runnable r) {
-			Thread thread = new Thread(r);
-			thread.setDaemon(true);
-			thread.setName("Live Reload #" + this.threadNumber.getAndIncrement());
-			return thread;
-		}
+		void handle(Connection connection) throws Exception;
 
 	}
 
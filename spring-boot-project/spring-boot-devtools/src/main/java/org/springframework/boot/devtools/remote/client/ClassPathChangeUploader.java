@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -27,6 +27,7 @@ import java.net.URL;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -74,6 +75,8 @@ public class ClassPathChangeUploader implements ApplicationListener<ClassPathCha
 
 	private final ClientHttpRequestFactory requestFactory;
 
+	private volatile boolean compressUploads;
+
 	public ClassPathChangeUploader(String url, ClientHttpRequestFactory requestFactory) {
 		Assert.hasLength(url, "URL must not be empty");
 		Assert.notNull(requestFactory, "RequestFactory must not be null");
@@ -99,6 +102,36 @@ public class ClassPathChangeUploader implements ApplicationListener<ClassPathCha
 	}
 
 	private void performUpload(ClassLoaderFiles classLoaderFiles, byte[] bytes) throws IOException {
+		HttpStatus statusCode = upload(bytes);
+		Assert.state(statusCode == HttpStatus.OK,
+				() -> "Unexpected " + statusCode + " response uploading class files");
+		logUpload(classLoaderFiles);
+	}
+
+	private HttpStatus upload(byte[] bytes) throws IOException {
+		if (this.compressUploads) {
+			ClientHttpResponse response = upload(compress(bytes), true);
+			if (acceptsCompressedUploads(response)) {
+				return response.getStatusCode();
+			}
+			// The remote application cannot decode the upload so nothing was restarted
+			logger.debug("Remote application no longer accepts compressed uploads, retrying uncompressed");
+		}
+		ClientHttpResponse response = upload(bytes, false);
+		this.compressUploads = acceptsCompressedUploads(response);
+		return response.getStatusCode();
+	}
+
+	private boolean acceptsCompressedUploads(ClientHttpResponse response) {
+		for (String encoding : response.getHeaders().getValuesAsList(HttpHeaders.ACCEPT_ENCODING)) {
+			if ("gzip".equalsIgnoreCase(encoding)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private ClientHttpResponse upload(byte[] bytes, boolean compressed) throws IOException {
 		try {
 			while (true) {
 				try {
@@ -106,13 +139,11 @@ public class ClassPathChangeUploader implements ApplicationListener<ClassPathCha
 					HttpHeaders headers = request.getHeaders();
 					headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
 					headers.setContentLength(bytes.length);
+					if (compressed) {
+						headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+					}
 					FileCopyUtils.copy(bytes, request.getBody());
-					ClientHttpResponse response = request.execute();
-					HttpStatus statusCode = response.getStatusCode();
-					Assert.state(statusCode == HttpStatus.OK,
-							() -> "Unexpected " + statusCode + " response uploading class files");
-					logUpload(classLoaderFiles);
-					return;
+					return request.execute();
 				}
 				catch (SocketException ex) {
 					logger.warn(LogMessage.format(
@@ -141,6 +172,14 @@ public class ClassPathChangeUploader implements ApplicationListener<ClassPathCha
 		return outputStream.toByteArray();
 	}
 
+	private byte[] compress(byte[] bytes) throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+			gzipOutputStream.write(bytes);
+		}
+		return outputStream.toByteArray();
+	}
+
 	private ClassLoaderFiles getClassLoaderFiles(ClassPathChangedEvent event) throws IOException {
 		ClassLoaderFiles files = new ClassLoaderFiles();
 		for (ChangedFiles changedFiles : event.getChangeSet()) {
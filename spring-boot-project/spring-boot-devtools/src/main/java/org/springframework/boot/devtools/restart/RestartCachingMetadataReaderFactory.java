@@ -0,0 +1,102 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.devtools.restart;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.devtools.restart.classloader.RestartClassLoader;
+import org.springframework.boot.type.classreading.ConcurrentReferenceCachingMetadataReaderFactory;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.UrlResource;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.core.type.classreading.SimpleMetadataReaderFactory;
+import org.springframework.util.ResourceUtils;
+
+/**
+ * {@link MetadataReaderFactory} that shares the metadata of classes loaded from jars of
+ * the base class loader with subsequent restarts. Such classes cannot change without the
+ * JVM being restarted so their metadata does not need to be read again. Classes that are
+ * served by the {@link RestartClassLoader} are read and cached for a single refresh only.
+ *
+ * @author agent
+ */
+class RestartCachingMetadataReaderFactory extends ConcurrentReferenceCachingMetadataReaderFactory
+		implements ApplicationListener<ContextRefreshedEvent> {
+
+	private final Map<String, MetadataReader> restartCache;
+
+	private final Set<String> restartUrls = new HashSet<>();
+
+	private final MetadataReaderFactory parentMetadataReaderFactory;
+
+	/**
+	 * Create a new {@link RestartCachingMetadataReaderFactory} instance.
+	 * @param classLoader the restart class loader
+	 * @param restartCache the cache that is shared between restarts
+	 */
+	RestartCachingMetadataReaderFactory(RestartClassLoader classLoader, Map<String, MetadataReader> restartCache) {
+		super(classLoader);
+		this.restartCache = restartCache;
+		for (URL url : classLoader.getURLs()) {
+			this.restartUrls.add(url.toString());
+		}
+		// Metadata that outlives a restart must not reference the restart class loader
+		this.parentMetadataReaderFactory = new SimpleMetadataReaderFactory(classLoader.getParent());
+	}
+
+	@Override
+	protected MetadataReader createMetadataReader(Resource resource) throws IOException {
+		URL url = getBaseJarUrl(resource);
+		if (url == null) {
+			return super.createMetadataReader(resource);
+		}
+		String key = url.toString();
+		MetadataReader metadataReader = this.restartCache.get(key);
+		if (metadataReader == null) {
+			metadataReader = this.parentMetadataReaderFactory.getMetadataReader(new UrlResource(url));
+			this.restartCache.put(key, metadataReader);
+		}
+		return metadataReader;
+	}
+
+	private URL getBaseJarUrl(Resource resource) {
+		try {
+			URL url = resource.getURL();
+			if (!ResourceUtils.isJarURL(url)) {
+				return null;
+			}
+			URL jarFileUrl = ResourceUtils.extractJarFileURL(url);
+			return (!this.restartUrls.contains(jarFileUrl.toString())) ? url : null;
+		}
+		catch (IOException ex) {
+			return null;
+		}
+	}
+
+	@Override
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+		clearCache();
+	}
+
+}
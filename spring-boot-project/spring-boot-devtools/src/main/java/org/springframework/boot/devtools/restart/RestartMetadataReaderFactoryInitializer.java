@@ -0,0 +1,113 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.devtools.restart;
+
+import java.util.Map;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
+import org.springframework.boot.devtools.restart.classloader.RestartClassLoader;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.PriorityOrdered;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * {@link ApplicationContextInitializer} that replaces the shared metadata reader factory
+ * with a {@link RestartCachingMetadataReaderFactory} so that class metadata read from
+ * the base class loader is reused across restarts.
+ *
+ * @author agent
+ */
+class RestartMetadataReaderFactoryInitializer
+		implements ApplicationContextInitializer<ConfigurableApplicationContext>, Ordered {
+
+	/**
+	 * Name of the bean registered by
+	 * {@code org.springframework.boot.autoconfigure.SharedMetadataReaderFactoryContextInitializer}.
+	 */
+	static final String SHARED_METADATA_READER_FACTORY_BEAN_NAME = "org.springframework.boot.autoconfigure."
+			+ "internalCachingMetadataReaderFactory";
+
+	private static final String CACHE_ATTRIBUTE = RestartMetadataReaderFactoryInitializer.class.getName()
+			+ ".cache";
+
+	@Override
+	public void initialize(ConfigurableApplicationContext applicationContext) {
+		ClassLoader classLoader = applicationContext.getClassLoader();
+		if (classLoader instanceof RestartClassLoader) {
+			applicationContext.addBeanFactoryPostProcessor(
+					new RestartMetadataReaderFactoryPostProcessor((RestartClassLoader) classLoader));
+		}
+	}
+
+	@Override
+	public int getOrder() {
+		// Must run after SharedMetadataReaderFactoryContextInitializer
+		return 1;
+	}
+
+	/**
+	 * {@link BeanDefinitionRegistryPostProcessor} to replace the shared metadata reader
+	 * factory.
+	 */
+	static class RestartMetadataReaderFactoryPostProcessor
+			implements BeanDefinitionRegistryPostProcessor, PriorityOrdered {
+
+		private final RestartClassLoader classLoader;
+
+		RestartMetadataReaderFactoryPostProcessor(RestartClassLoader classLoader) {
+			this.classLoader = classLoader;
+		}
+
+		@Override
+		public int getOrder() {
+			return Ordered.HIGHEST_PRECEDENCE;
+		}
+
+		@Override
+		public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
+		}
+
+		@Override
+		public void postProcessBeanDefinitionRegistry(BeanDefinitionRegistry registry) throws BeansException {
+			if (registry.containsBeanDefinition(SHARED_METADATA_READER_FACTORY_BEAN_NAME)) {
+				Map<String, MetadataReader> cache = getRestartCache();
+				BeanDefinition definition = BeanDefinitionBuilder
+						.genericBeanDefinition(RestartCachingMetadataReaderFactory.class,
+								() -> new RestartCachingMetadataReaderFactory(this.classLoader, cache))
+						.getBeanDefinition();
+				registry.removeBeanDefinition(SHARED_METADATA_READER_FACTORY_BEAN_NAME);
+				registry.registerBeanDefinition(SHARED_METADATA_READER_FACTORY_BEAN_NAME, definition);
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private Map<String, MetadataReader> getRestartCache() {
+			return (Map<String, MetadataReader>) Restarter.getInstance().getOrAddAttribute(CACHE_ATTRIBUTE,
+					ConcurrentReferenceHashMap::new);
+		}
+
+	}
+
+}
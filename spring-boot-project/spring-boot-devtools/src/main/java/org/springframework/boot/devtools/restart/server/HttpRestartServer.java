@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,12 +17,16 @@
 package org.springframework.boot.devtools.restart.server;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
+import java.util.zip.GZIPInputStream;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import org.springframework.boot.devtools.restart.classloader.ClassLoaderFiles;
+import org.springframework.core.log.LogMessage;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServerHttpResponse;
@@ -68,9 +72,28 @@ public class HttpRestartServer {
 	 * @throws IOException in case of I/O errors
 	 */
 	public void handle(ServerHttpRequest request, ServerHttpResponse response) throws IOException {
+		// Let clients know that they can compress their uploads
+		response.getHeaders().set(HttpHeaders.ACCEPT_ENCODING, "gzip");
+		try {
+			handleUpload(request, response);
+		}
+		finally {
+			response.close();
+		}
+	}
+
+	private void handleUpload(ServerHttpRequest request, ServerHttpResponse response) {
+		String contentEncoding = request.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
+		if (contentEncoding != null && !"gzip".equalsIgnoreCase(contentEncoding)) {
+			logger.warn(LogMessage.format("Unable to decode restart server HTTP request with content encoding '%s'",
+					contentEncoding));
+			response.setStatusCode(HttpStatus.UNSUPPORTED_MEDIA_TYPE);
+			return;
+		}
 		try {
 			Assert.state(request.getHeaders().getContentLength() > 0, "No content");
-			ObjectInputStream objectInputStream = new ObjectInputStream(request.getBody());
+			InputStream body = (contentEncoding != null) ? new GZIPInputStream(request.getBody()) : request.getBody();
+			ObjectInputStream objectInputStream = new ObjectInputStream(body);
 			ClassLoaderFiles files = (ClassLoaderFiles) objectInputStream.readObject();
 			objectInputStream.close();
 			this.server.updateAndRestart(files);
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package org.springframework.boot.devtools.tunnel.client;
 
+import java.io.ByteArrayOutputStream;
 import java.io.Closeable;
 import java.io.IOException;
 import java.net.ConnectException;
@@ -63,6 +64,8 @@ public class HttpTunnelConnection implements TunnelConnection {
 
 	private final Executor executor;
 
+	private int httpConnections = 1;
+
 	/**
 	 * Create a new {@link HttpTunnelConnection} instance.
 	 * @param url the URL to connect to
@@ -91,6 +94,20 @@ public class HttpTunnelConnection implements TunnelConnection {
 		this.executor = (executor != null) ? executor : Executors.newCachedThreadPool(new TunnelThreadFactory());
 	}
 
+	/**
+	 * Set the number of HTTP connections that the client keeps open to receive data from
+	 * the server. Using more than one connection allows several payloads to be in flight
+	 * at the same time, improving throughput on high latency links. The server must be
+	 * configured to hold at least as many connections open.
+	 * @param httpConnections the number of HTTP connections
+	 * @since 2.5.0
+	 * @see org.springframework.boot.devtools.tunnel.server.HttpTunnelServer#setMaxHttpConnections(int)
+	 */
+	public void setHttpConnections(int httpConnections) {
+		Assert.isTrue(httpConnections > 0, "HttpConnections must be a positive value");
+		this.httpConnections = httpConnections;
+	}
+
 	@Override
 	public TunnelChannel open(WritableByteChannel incomingChannel, Closeable closeable) throws Exception {
 		logger.trace(LogMessage.format("Opening HTTP tunnel to %s", this.uri));
@@ -115,10 +132,16 @@ public class HttpTunnelConnection implements TunnelConnection {
 
 		private AtomicLong requestSeq = new AtomicLong();
 
+		private final ByteArrayOutputStream pendingData = new ByteArrayOutputStream();
+
+		private boolean sendScheduled;
+
 		public TunnelChannel(WritableByteChannel incomingChannel, Closeable closeable) {
 			this.forwarder = new HttpTunnelPayloadForwarder(incomingChannel);
 			this.closeable = closeable;
-			openNewConnection(null);
+			for (int i = 0; i < HttpTunnelConnection.this.httpConnections; i++) {
+				openNewConnection(false);
+			}
 		}
 
 		@Override
@@ -138,18 +161,43 @@ public class HttpTunnelConnection implements TunnelConnection {
 		public int write(ByteBuffer src) throws IOException {
 			int size = src.remaining();
 			if (size > 0) {
-				openNewConnection(new HttpTunnelPayload(this.requestSeq.incrementAndGet(), src));
+				boolean scheduleSend;
+				synchronized (this.pendingData) {
+					byte[] data = new byte[size];
+					src.get(data);
+					this.pendingData.write(data, 0, size);
+					scheduleSend = !this.sendScheduled;
+					this.sendScheduled = true;
+				}
+				if (scheduleSend) {
+					openNewConnection(true);
+				}
 			}
 			return size;
 		}
 
-		private void openNewConnection(HttpTunnelPayload payload) {
+		/**
+		 * Return a payload containing all data written since the last payload was sent.
+		 * Small writes that arrive before a request is sent are batched into a single
+		 * payload.
+		 * @return the payload
+		 */
+		private HttpTunnelPayload getPendingPayload() {
+			synchronized (this.pendingData) {
+				ByteBuffer data = ByteBuffer.wrap(this.pendingData.toByteArray());
+				this.pendingData.reset();
+				this.sendScheduled = false;
+				return new HttpTunnelPayload(this.requestSeq.incrementAndGet(), data);
+			}
+		}
+
+		private void openNewConnection(boolean sendPendingData) {
 			HttpTunnelConnection.this.executor.execute(new Runnable() {
 
 				@Override
 				public void run() {
 					try {
-						sendAndReceive(payload);
+						sendAndReceive(sendPendingData ? getPendingPayload() : null);
 					}
 					catch (IOException ex) {
 						if (ex instanceof ConnectException) {
@@ -196,7 +244,7 @@ public class HttpTunnelConnection implements TunnelConnection {
 				}
 			}
 			if (response.getStatusCode() != HttpStatus.TOO_MANY_REQUESTS) {
-				openNewConnection(null);
+				openNewConnection(false);
 			}
 		}
 
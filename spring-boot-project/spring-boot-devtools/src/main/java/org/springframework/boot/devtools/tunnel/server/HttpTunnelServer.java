@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -62,8 +62,10 @@ import org.springframework.util.Assert;
  *     .                               .
  * </pre>
  *
- * Each incoming request is held open to be used to carry the next available response. The
- * server will hold at most two connections open at any given time.
+ * Each incoming request is held open to be used to carry the next available response. By
+ * default, the server will hold at most two connections open at any given time. Holding
+ * more connections allows several responses to be pipelined to clients that keep more
+ * requests open (see {@link #setMaxHttpConnections(int)}).
  * <p>
  * Requests should be made using HTTP GET or POST (depending if there is a payload), with
  * any payload contained in the body. The following response codes can be returned from
@@ -112,6 +114,8 @@ public class HttpTunnelServer {
 
 	private static final long DEFAULT_DISCONNECT_TIMEOUT = TimeUnit.SECONDS.toMillis(30);
 
+	private static final int DEFAULT_MAX_HTTP_CONNECTIONS = 2;
+
 	private static final MediaType DISCONNECT_MEDIA_TYPE = new MediaType("application", "x-disconnect");
 
 	private static final Log logger = LogFactory.getLog(HttpTunnelServer.class);
@@ -122,6 +126,8 @@ public class HttpTunnelServer {
 
 	private long disconnectTimeout = DEFAULT_DISCONNECT_TIMEOUT;
 
+	private int maxHttpConnections = DEFAULT_MAX_HTTP_CONNECTIONS;
+
 	private volatile ServerThread serverThread;
 
 	/**
@@ -201,6 +207,18 @@ public class HttpTunnelServer {
 		this.disconnectTimeout = disconnectTimeout;
 	}
 
+	/**
+	 * Set the maximum number of HTTP connections that the server will hold open. When an
+	 * additional connection arrives, the oldest held connection is released with a
+	 * {@code 429 (Too many requests)} response.
+	 * @param maxHttpConnections the maximum number of HTTP connections
+	 * @since 2.5.0
+	 */
+	public void setMaxHttpConnections(int maxHttpConnections) {
+		Assert.isTrue(maxHttpConnections > 0, "MaxHttpConnections must be a positive value");
+		this.maxHttpConnections = maxHttpConnections;
+	}
+
 	/**
 	 * The main server thread used to transfer tunnel traffic.
 	 */
@@ -221,7 +239,7 @@ public class HttpTunnelServer {
 		public ServerThread(ByteChannel targetServer) {
 			Assert.notNull(targetServer, "TargetServer must not be null");
 			this.targetServer = targetServer;
-			this.httpConnections = new ArrayDeque<>(2);
+			this.httpConnections = new ArrayDeque<>(HttpTunnelServer.this.maxHttpConnections);
 			this.payloadForwarder = new HttpTunnelPayloadForwarder(targetServer);
 		}
 
@@ -329,7 +347,7 @@ public class HttpTunnelServer {
 				httpConnection.respond(HttpStatus.GONE);
 			}
 			synchronized (this.httpConnections) {
-				while (this.httpConnections.size() > 1) {
+				while (this.httpConnections.size() >= HttpTunnelServer.this.maxHttpConnections) {
 					this.httpConnections.removeFirst().respond(HttpStatus.TOO_MANY_REQUESTS);
 				}
 				this.lastHttpRequestTime = System.currentTimeMillis();
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -136,6 +136,37 @@ class DirectorySnapshotTests {
 		assertThat(getChangedFile(changedFiles, newFile).getType()).isEqualTo(Type.ADD);
 	}
 
+	@Test
+	void getChangedFilesWhenOnlyLastModifiedOfAPreviouslyChangedFileChanges() throws Exception {
+		File file1 = new File(new File(this.directory, "directory1"), "file1");
+		FileCopyUtils.copy("xyz".getBytes(), file1);
+		file1.setLastModified(file1.lastModified() - 10000);
+		DirectorySnapshot updatedSnapshot = new DirectorySnapshot(this.directory, this.initialSnapshot);
+		file1.setLastModified(file1.lastModified() + 5000);
+		DirectorySnapshot touchedSnapshot = new DirectorySnapshot(this.directory, updatedSnapshot);
+		assertThat(updatedSnapshot).isNotEqualTo(touchedSnapshot);
+		assertThat(updatedSnapshot.getChangedFiles(touchedSnapshot, null).getFiles()).isEmpty();
+	}
+
+	@Test
+	void getChangedFilesWhenContentOfAPreviouslyChangedFileChanges() throws Exception {
+		File file1 = new File(new File(this.directory, "directory1"), "file1");
+		FileCopyUtils.copy("xyz".getBytes(), file1);
+		file1.setLastModified(file1.lastModified() - 10000);
+		DirectorySnapshot updatedSnapshot = new DirectorySnapshot(this.directory, this.initialSnapshot);
+		FileCopyUtils.copy("abc".getBytes(), file1);
+		DirectorySnapshot changedSnapshot = new DirectorySnapshot(this.directory, updatedSnapshot);
+		ChangedFiles changedFiles = updatedSnapshot.getChangedFiles(changedSnapshot, null);
+		assertThat(getChangedFile(changedFiles, file1).getType()).isEqualTo(Type.MODIFY);
+	}
+
+	@Test
+	void previousSnapshotMustBeTheSameSourceDirectory() throws Exception {
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new DirectorySnapshot(createTestDirectoryStructure(), this.initialSnapshot))
+				.withMessageContaining("Previous snapshot source directory must be");
+	}
+
 	private ChangedFile getChangedFile(ChangedFiles changedFiles, File file) {
 		for (ChangedFile changedFile : changedFiles) {
 			if (changedFile.getFile().equals(file)) {
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.devtools.filewatch;
+
+import java.io.File;
+import java.nio.file.FileSystems;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.Watchable;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link DirectoryWatcher}.
+ *
+ * @author agent
+ */
+@DisabledOnOs(OS.MAC)
+class DirectoryWatcherTests {
+
+	@TempDir
+	File tempDir;
+
+	@Test
+	void whenEventsOverflowThenDirectoriesCreatedInTheMeantimeAreRegistered() throws Exception {
+		WatchService watchService = FileSystems.getDefault().newWatchService();
+		DirectoryWatcher watcher = new DirectoryWatcher(watchService, Collections.singleton(this.tempDir));
+		try {
+			watcher.register();
+			File directory = new File(this.tempDir, "sub");
+			assertThat(directory.mkdir()).isTrue();
+			WatchKey key = watchService.poll(10, TimeUnit.SECONDS);
+			assertThat(key).isNotNull();
+			key.pollEvents();
+			watcher.processEvents(new OverflowWatchKey(key));
+			assertThat(watcher.awaitChange(10)).isTrue();
+			assertThat(new File(directory, "test.txt").createNewFile()).isTrue();
+			assertThat(watcher.awaitChange(10000)).isTrue();
+		}
+		finally {
+			watcher.close();
+		}
+	}
+
+	/**
+	 * {@link WatchKey} that reports an {@link StandardWatchEventKinds#OVERFLOW overflow}
+	 * in place of the events of another key.
+	 */
+	private static class OverflowWatchKey implements WatchKey {
+
+		private final WatchKey key;
+
+		OverflowWatchKey(WatchKey key) {
+			this.key = key;
+		}
+
+		@Override
+		public boolean isValid() {
+			return this.key.isValid();
+		}
+
+		@Override
+		public List<WatchEvent<?>> pollEvents() {
+			return Collections.singletonList(new WatchEvent<Object>() {
+
+				@Override
+				public Kind<Object> kind() {
+					return StandardWatchEventKinds.OVERFLOW;
+				}
+
+				@Override
+				public int count() {
+					return 1;
+				}
+
+				@Override
+				public Object context() {
+					return null;
+				}
+
+			});
+		}
+
+		@Override
+		public boolean reset() {
+			return this.key.reset();
+		}
+
+		@Override
+		public void cancel() {
+			this.key.cancel();
+		}
+
+		@Override
+		public Watchable watchable() {
+			return this.key.watchable();
+		}
+
+	}
+
+}
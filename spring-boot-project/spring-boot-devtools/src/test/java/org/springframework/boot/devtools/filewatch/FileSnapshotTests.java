@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -92,6 +92,29 @@ class FileSnapshotTests {
 		assertThat(snapshot1).isNotEqualTo(new FileSnapshot(file));
 	}
 
+	@Test
+	void hasSameContentIfOnlyLastModifiedChanges() throws Exception {
+		File file = createNewFile("abc", MODIFIED);
+		FileSnapshot snapshot1 = new FileSnapshot(file).withContentHash();
+		setupFile(file, "abc", MODIFIED + TWO_MINS);
+		assertThat(snapshot1.hasSameContent(new FileSnapshot(file).withContentHash())).isTrue();
+	}
+
+	@Test
+	void doesNotHaveSameContentIfContentChanges() throws Exception {
+		File file = createNewFile("abc", MODIFIED);
+		FileSnapshot snapshot1 = new FileSnapshot(file).withContentHash();
+		setupFile(file, "xyz", MODIFIED + TWO_MINS);
+		assertThat(snapshot1.hasSameContent(new FileSnapshot(file).withContentHash())).isFalse();
+	}
+
+	@Test
+	void doesNotHaveSameContentWithoutContentHash() throws Exception {
+		File file = createNewFile("abc", MODIFIED);
+		FileSnapshot snapshot1 = new FileSnapshot(file);
+		assertThat(snapshot1.hasSameContent(new FileSnapshot(file).withContentHash())).isFalse();
+	}
+
 	private File createNewFile(String content, long lastModified) throws IOException {
 		File file = new File(this.tempDir, UUID.randomUUID().toString());
 		setupFile(file, content, lastModified);
@@ -290,6 +290,50 @@ class FileSystemWatcherTests {
 		assertThat(actual).isEqualTo(expected);
 	}
 
+	@Test
+	void cannotSetUseWatchServiceOnStartedWatcher() {
+		this.watcher.start();
+		assertThatIllegalStateException().isThrownBy(() -> this.watcher.setUseWatchService(true))
+				.withMessageContaining("FileSystemWatcher already started");
+	}
+
+	@Test
+	void addFileWithWatchService() throws Exception {
+		this.watcher.setUseWatchService(true);
+		File directory = startWithNewDirectory();
+		File file = touch(new File(directory, "test.txt"));
+		this.watcher.stopAfter(1);
+		ChangedFile expected = new ChangedFile(directory, file, Type.ADD);
+		assertThat(getAllFileChanges()).containsExactly(expected);
+	}
+
+	@Test
+	void addFileInNewNestedDirectoryWithWatchService() throws Exception {
+		this.watcher.setUseWatchService(true);
+		File directory = startWithNewDirectory();
+		File first = touch(new File(new File(directory, "sub"), "first.txt"));
+		while (this.changes.isEmpty()) {
+			Thread.sleep(10);
+		}
+		File second = touch(new File(new File(directory, "sub"), "second.txt"));
+		this.watcher.stopAfter(1);
+		assertThat(getAllFileChanges()).containsOnly(new ChangedFile(directory, first, Type.ADD),
+				new ChangedFile(directory, second, Type.ADD));
+	}
+
+	@Test
+	void createSourceDirectoryAndAddFileWithWatchService() throws IOException {
+		File directory = new File(this.tempDir, "does/not/exist");
+		this.watcher.setUseWatchService(true);
+		this.watcher.addSourceDirectory(directory);
+		this.watcher.start();
+		directory.mkdirs();
+		File file = touch(new File(directory, "text.txt"));
+		this.watcher.stopAfter(1);
+		ChangedFile expected = new ChangedFile(directory, file, Type.ADD);
+		assertThat(getAllFileChanges()).containsExactly(expected);
+	}
+
 	private void setupWatcher(long pollingInterval, long quietPeriod) {
 		setupWatcher(pollingInterval, quietPeriod, null);
 	}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,8 +16,8 @@
 
 package org.springframework.boot.devtools.livereload;
 
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
@@ -87,21 +87,21 @@ class FrameTests {
 	@Test
 	void readFragmentedNotSupported() throws Exception {
 		byte[] bytes = new byte[] { 0x0F };
-		assertThatIllegalStateException().isThrownBy(() -> Frame.read(newConnectionInputStream(bytes)))
+		assertThatIllegalStateException().isThrownBy(() -> Frame.read(ByteBuffer.wrap(bytes)))
 				.withMessageContaining("Fragmented frames are not supported");
 	}
 
 	@Test
 	void readLargeFramesNotSupported() throws Exception {
 		byte[] bytes = new byte[] { (byte) 0x80, (byte) 0xFF };
-		assertThatIllegalStateException().isThrownBy(() -> Frame.read(newConnectionInputStream(bytes)))
+		assertThatIllegalStateException().isThrownBy(() -> Frame.read(ByteBuffer.wrap(bytes)))
 				.withMessageContaining("Large frames are not supported");
 	}
 
 	@Test
 	void readSmallTextFrame() throws Exception {
 		byte[] bytes = new byte[] { (byte) 0x81, (byte) 0x02, 0x41, 0x41 };
-		Frame frame = Frame.read(newConnectionInputStream(bytes));
+		Frame frame = Frame.read(ByteBuffer.wrap(bytes));
 		assertThat(frame.getType()).isEqualTo(Frame.Type.TEXT);
 		assertThat(frame.getPayload()).isEqualTo(new byte[] { 0x41, 0x41 });
 	}
@@ -109,7 +109,7 @@ class FrameTests {
 	@Test
 	void readMaskedTextFrame() throws Exception {
 		byte[] bytes = new byte[] { (byte) 0x81, (byte) 0x82, 0x0F, 0x0F, 0x0F, 0x0F, 0x4E, 0x4E };
-		Frame frame = Frame.read(newConnectionInputStream(bytes));
+		Frame frame = Frame.read(ByteBuffer.wrap(bytes));
 		assertThat(frame.getType()).isEqualTo(Frame.Type.TEXT);
 		assertThat(frame.getPayload()).isEqualTo(new byte[] { 0x41, 0x41 });
 	}
@@ -126,7 +126,7 @@ class FrameTests {
 		bytes[5] = 0x0F;
 		bytes[6] = 0x0F;
 		bytes[7] = 0x0F;
-		Frame frame = Frame.read(newConnectionInputStream(bytes));
+		Frame frame = Frame.read(ByteBuffer.wrap(bytes));
 		assertThat(frame.getType()).isEqualTo(Frame.Type.TEXT);
 		assertThat(frame.getPayload()).isEqualTo(createString(126).getBytes());
 	}
@@ -134,40 +134,53 @@ class FrameTests {
 	@Test
 	void readContinuation() throws Exception {
 		byte[] bytes = new byte[] { (byte) 0x80, (byte) 0x00 };
-		Frame frame = Frame.read(newConnectionInputStream(bytes));
+		Frame frame = Frame.read(ByteBuffer.wrap(bytes));
 		assertThat(frame.getType()).isEqualTo(Frame.Type.CONTINUATION);
 	}
 
 	@Test
 	void readBinary() throws Exception {
 		byte[] bytes = new byte[] { (byte) 0x82, (byte) 0x00 };
-		Frame frame = Frame.read(newConnectionInputStream(bytes));
+		Frame frame = Frame.read(ByteBuffer.wrap(bytes));
 		assertThat(frame.getType()).isEqualTo(Frame.Type.BINARY);
 	}
 
 	@Test
 	void readClose() throws Exception {
 		byte[] bytes = new byte[] { (byte) 0x88, (byte) 0x00 };
-		Frame frame = Frame.read(newConnectionInputStream(bytes));
+		Frame frame = Frame.read(ByteBuffer.wrap(bytes));
 		assertThat(frame.getType()).isEqualTo(Frame.Type.CLOSE);
 	}
 
 	@Test
 	void readPing() throws Exception {
 		byte[] bytes = new byte[] { (byte) 0x89, (byte) 0x00 };
-		Frame frame = Frame.read(newConnectionInputStream(bytes));
+		Frame frame = Frame.read(ByteBuffer.wrap(bytes));
 		assertThat(frame.getType()).isEqualTo(Frame.Type.PING);
 	}
 
 	@Test
 	void readPong() throws Exception {
 		byte[] bytes = new byte[] { (byte) 0x8A, (byte) 0x00 };
-		Frame frame = Frame.read(newConnectionInputStream(bytes));
+		Frame frame = Frame.read(ByteBuffer.wrap(bytes));
 		assertThat(frame.getType()).isEqualTo(Frame.Type.PONG);
 	}
 
-	private ConnectionInputStream newConnectionInputStream(byte[] bytes) {
-		return new ConnectionInputStream(new ByteArrayInputStream(bytes));
+	@Test
+	void readIncompleteFrame() throws Exception {
+		byte[] bytes = new byte[] { (byte) 0x81, (byte) 0x82, 0x0F, 0x0F, 0x0F, 0x0F, 0x4E };
+		ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		assertThat(Frame.read(buffer)).isNull();
+		assertThat(buffer.position()).isEqualTo(0);
+	}
+
+	@Test
+	void readMultipleFrames() throws Exception {
+		byte[] bytes = new byte[] { (byte) 0x89, (byte) 0x00, (byte) 0x81, (byte) 0x01, 0x41 };
+		ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		assertThat(Frame.read(buffer).getType()).isEqualTo(Frame.Type.PING);
+		assertThat(Frame.read(buffer).getPayload()).isEqualTo(new byte[] { 0x41 });
+		assertThat(buffer.hasRemaining()).isFalse();
 	}
 
 	private String createString(int length) {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,9 +17,8 @@
 package org.springframework.boot.devtools.livereload;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
 import java.net.URI;
+import java.nio.channels.SocketChannel;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
@@ -97,6 +96,20 @@ class LiveReloadServerTests {
 
 	}
 
+	@Test
+	void triggerReloadWithMultipleClients() throws Exception {
+		List<LiveReloadWebSocketHandler> handlers = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			handlers.add(connect());
+		}
+		this.server.triggerReload();
+		for (LiveReloadWebSocketHandler handler : handlers) {
+			List<String> messages = await().atMost(Duration.ofSeconds(10)).until(handler::getMessages,
+					(msgs) -> msgs.size() == 2);
+			assertThat(messages.get(1)).contains("command\":\"reload\"");
+		}
+	}
+
 	@Test
 	void pingPong() throws Exception {
 		LiveReloadWebSocketHandler handler = connect();
@@ -147,9 +160,8 @@ class LiveReloadServerTests {
 		}
 
 		@Override
-		protected Connection createConnection(java.net.Socket socket, InputStream inputStream,
-				OutputStream outputStream) throws IOException {
-			return new MonitoredConnection(socket, inputStream, outputStream);
+		protected Connection createConnection(SocketChannel channel) throws IOException {
+			return new MonitoredConnection(channel);
 		}
 
 		List<ConnectionClosedException> getClosedExceptions() {
@@ -160,15 +172,14 @@ class LiveReloadServerTests {
 
 		private class MonitoredConnection extends Connection {
 
-			MonitoredConnection(java.net.Socket socket, InputStream inputStream, OutputStream outputStream)
-					throws IOException {
-				super(socket, inputStream, outputStream);
+			MonitoredConnection(SocketChannel channel) {
+				super(channel);
 			}
 
 			@Override
-			public void run() throws Exception {
+			void read() throws IOException {
 				try {
-					super.run();
+					super.read();
 				}
 				catch (ConnectionClosedException ex) {
 					synchronized (MonitoredLiveReloadServer.this.monitor) {
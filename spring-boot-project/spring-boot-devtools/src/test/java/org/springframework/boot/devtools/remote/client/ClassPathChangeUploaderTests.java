@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,12 +19,17 @@ package org.springframework.boot.devtools.remote.client;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.net.SocketException;
+import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -39,12 +44,19 @@ import org.springframework.boot.devtools.restart.classloader.ClassLoaderFile.Kin
 import org.springframework.boot.devtools.restart.classloader.ClassLoaderFiles;
 import org.springframework.boot.devtools.restart.classloader.ClassLoaderFiles.SourceDirectory;
 import org.springframework.boot.devtools.test.MockClientHttpRequestFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
 import org.springframework.util.FileCopyUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 
 /**
  * Tests for {@link ClassPathChangeUploader}.
@@ -97,9 +109,78 @@ class ClassPathChangeUploaderTests {
 		this.uploader.onApplicationEvent(event);
 		assertThat(this.requestFactory.getExecutedRequests()).hasSize(1);
 		MockClientHttpRequest request = this.requestFactory.getExecutedRequests().get(0);
+		assertThat(request.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
 		verifyUploadRequest(sourceDirectory, request);
 	}
 
+	@Test
+	void compressesUploadsOnceRemoteApplicationAcceptsThem(@TempDir File sourceDirectory) throws Exception {
+		ClassPathChangedEvent event = createClassPathChangedEvent(sourceDirectory);
+		this.requestFactory.willRespond(HttpStatus.OK, acceptGzip());
+		this.requestFactory.willRespond(HttpStatus.OK, acceptGzip());
+		this.uploader.onApplicationEvent(event);
+		this.uploader.onApplicationEvent(event);
+		assertThat(this.requestFactory.getExecutedRequests()).hasSize(2);
+		MockClientHttpRequest firstRequest = this.requestFactory.getExecutedRequests().get(0);
+		assertThat(firstRequest.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+		verifyUploadRequest(sourceDirectory, firstRequest);
+		MockClientHttpRequest compressedRequest = this.requestFactory.getExecutedRequests().get(1);
+		assertThat(compressedRequest.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+		verifyUploadRequest(sourceDirectory, compressedRequest);
+	}
+
+	@Test
+	void doesNotCompressUploadsToRemoteApplicationWithoutSupportForCompressedUploads(@TempDir File sourceDirectory)
+			throws Exception {
+		LegacyRestartServerRequestFactory requestFactory = new LegacyRestartServerRequestFactory();
+		ClassPathChangeUploader uploader = new ClassPathChangeUploader("http://localhost/upload", requestFactory);
+		ClassPathChangedEvent event = createClassPathChangedEvent(sourceDirectory);
+		uploader.onApplicationEvent(event);
+		uploader.onApplicationEvent(event);
+		assertThat(requestFactory.getExecutedRequests()).hasSize(2);
+		for (MockClientHttpRequest request : requestFactory.getExecutedRequests()) {
+			assertThat(request.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+			verifyUploadRequest(sourceDirectory, request);
+		}
+	}
+
+	@Test
+	void fallsBackToUncompressedUploadWhenRemoteApplicationNoLongerAcceptsCompressedUploads(
+			@TempDir File sourceDirectory) throws Exception {
+		ClassPathChangedEvent event = createClassPathChangedEvent(sourceDirectory);
+		this.requestFactory.willRespond(HttpStatus.OK, acceptGzip());
+		this.requestFactory.willRespond(HttpStatus.INTERNAL_SERVER_ERROR);
+		this.requestFactory.willRespond(HttpStatus.OK);
+		this.requestFactory.willRespond(HttpStatus.OK);
+		this.uploader.onApplicationEvent(event);
+		this.uploader.onApplicationEvent(event);
+		this.uploader.onApplicationEvent(event);
+		assertThat(this.requestFactory.getExecutedRequests()).hasSize(4);
+		MockClientHttpRequest compressedRequest = this.requestFactory.getExecutedRequests().get(1);
+		assertThat(compressedRequest.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+		MockClientHttpRequest fallbackRequest = this.requestFactory.getExecutedRequests().get(2);
+		assertThat(fallbackRequest.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+		verifyUploadRequest(sourceDirectory, fallbackRequest);
+		MockClientHttpRequest nextRequest = this.requestFactory.getExecutedRequests().get(3);
+		assertThat(nextRequest.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+	}
+
+	@Test
+	void doesNotFallBackWhenCompressedUploadFails(@TempDir File sourceDirectory) throws Exception {
+		ClassPathChangedEvent event = createClassPathChangedEvent(sourceDirectory);
+		this.requestFactory.willRespond(HttpStatus.OK, acceptGzip());
+		this.requestFactory.willRespond(HttpStatus.INTERNAL_SERVER_ERROR, acceptGzip());
+		this.requestFactory.willRespond(HttpStatus.OK, acceptGzip());
+		this.uploader.onApplicationEvent(event);
+		assertThatIllegalStateException().isThrownBy(() -> this.uploader.onApplicationEvent(event))
+				.withMessageContaining("Unexpected 500");
+		assertThat(this.requestFactory.getExecutedRequests()).hasSize(2);
+		this.uploader.onApplicationEvent(event);
+		assertThat(this.requestFactory.getExecutedRequests()).hasSize(3);
+		MockClientHttpRequest nextRequest = this.requestFactory.getExecutedRequests().get(2);
+		assertThat(nextRequest.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+	}
+
 	@Test
 	void retriesOnSocketException(@TempDir File sourceDirectory) throws Exception {
 		ClassPathChangedEvent event = createClassPathChangedEvent(sourceDirectory);
@@ -110,9 +191,15 @@ class ClassPathChangeUploaderTests {
 		verifyUploadRequest(sourceDirectory, this.requestFactory.getExecutedRequests().get(1));
 	}
 
+	private HttpHeaders acceptGzip() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.set(HttpHeaders.ACCEPT_ENCODING, "gzip");
+		return headers;
+	}
+
 	private void verifyUploadRequest(File sourceDirectory, MockClientHttpRequest request)
 			throws IOException, ClassNotFoundException {
-		ClassLoaderFiles classLoaderFiles = deserialize(request.getBodyAsBytes());
+		ClassLoaderFiles classLoaderFiles = deserialize(request);
 		Collection<SourceDirectory> sourceDirectories = classLoaderFiles.getSourceDirectories();
 		assertThat(sourceDirectories.size()).isEqualTo(1);
 		SourceDirectory classSourceDirectory = sourceDirectories.iterator().next();
@@ -148,9 +235,49 @@ class ClassPathChangeUploaderTests {
 		return file;
 	}
 
-	private ClassLoaderFiles deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
-		ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(bytes));
+	private ClassLoaderFiles deserialize(MockClientHttpRequest request) throws IOException, ClassNotFoundException {
+		InputStream inputStream = new ByteArrayInputStream(request.getBodyAsBytes());
+		if ("gzip".equals(request.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING))) {
+			inputStream = new GZIPInputStream(inputStream);
+		}
+		ObjectInputStream objectInputStream = new ObjectInputStream(inputStream);
 		return (ClassLoaderFiles) objectInputStream.readObject();
 	}
 
+	/**
+	 * {@link ClientHttpRequestFactory} that handles uploads in the same way as a remote
+	 * application that cannot decode compressed uploads.
+	 */
+	private static class LegacyRestartServerRequestFactory implements ClientHttpRequestFactory {
+
+		private final List<MockClientHttpRequest> executedRequests = new ArrayList<>();
+
+		@Override
+		public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) {
+			return new MockClientHttpRequest(httpMethod, uri) {
+
+				@Override
+				protected ClientHttpResponse executeInternal() {
+					LegacyRestartServerRequestFactory.this.executedRequests.add(this);
+					try {
+						ObjectInputStream objectInputStream = new ObjectInputStream(
+								new ByteArrayInputStream(getBodyAsBytes()));
+						objectInputStream.readObject();
+						objectInputStream.close();
+						return new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+					}
+					catch (Exception ex) {
+						return new MockClientHttpResponse(new byte[0], HttpStatus.INTERNAL_SERVER_ERROR);
+					}
+				}
+
+			};
+		}
+
+		List<MockClientHttpRequest> getExecutedRequests() {
+			return this.executedRequests;
+		}
+
+	}
+
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.devtools.restart;
+
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.devtools.restart.classloader.RestartClassLoader;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.util.ResourceUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link RestartCachingMetadataReaderFactory}.
+ *
+ * @author agent
+ */
+class RestartCachingMetadataReaderFactoryTests {
+
+	private final Map<String, MetadataReader> restartCache = new HashMap<>();
+
+	private final Resource jarResource = new ClassPathResource("org/springframework/core/io/Resource.class");
+
+	private final Resource directoryResource = new ClassPathResource(
+			getClass().getName().replace('.', '/') + ".class");
+
+	@Test
+	void metadataOfClassFromBaseJarIsSharedBetweenRestarts() throws Exception {
+		MetadataReader first = createFactory().getMetadataReader(this.jarResource);
+		MetadataReader second = createFactory().getMetadataReader(this.jarResource);
+		assertThat(first).isSameAs(second);
+		assertThat(first.getClassMetadata().getClassName()).isEqualTo(Resource.class.getName());
+		assertThat(this.restartCache).hasSize(1);
+	}
+
+	@Test
+	void metadataOfClassFromDirectoryIsNotSharedBetweenRestarts() throws Exception {
+		MetadataReader first = createFactory().getMetadataReader(this.directoryResource);
+		MetadataReader second = createFactory().getMetadataReader(this.directoryResource);
+		assertThat(first).isNotSameAs(second);
+		assertThat(this.restartCache).isEmpty();
+	}
+
+	@Test
+	void metadataOfClassFromRestartJarIsNotSharedBetweenRestarts() throws Exception {
+		URL jarUrl = ResourceUtils.extractJarFileURL(this.jarResource.getURL());
+		MetadataReader first = createFactory(jarUrl).getMetadataReader(this.jarResource);
+		MetadataReader second = createFactory(jarUrl).getMetadataReader(this.jarResource);
+		assertThat(first).isNotSameAs(second);
+		assertThat(this.restartCache).isEmpty();
+	}
+
+	private RestartCachingMetadataReaderFactory createFactory(URL... restartUrls) {
+		RestartClassLoader classLoader = new RestartClassLoader(getClass().getClassLoader(), restartUrls);
+		return new RestartCachingMetadataReaderFactory(classLoader, this.restartCache);
+	}
+
+}
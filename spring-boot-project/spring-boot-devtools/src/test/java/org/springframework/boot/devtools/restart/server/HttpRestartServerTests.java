@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,7 @@ package org.springframework.boot.devtools.restart.server;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectOutputStream;
+import java.util.zip.GZIPOutputStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -86,6 +87,36 @@ class HttpRestartServerTests {
 		verify(this.delegate).updateAndRestart(this.filesCaptor.capture());
 		assertThat(this.filesCaptor.getValue().getFile("name")).isNotNull();
 		assertThat(response.getStatus()).isEqualTo(200);
+		assertThat(response.getHeader("Accept-Encoding")).isEqualTo("gzip");
+	}
+
+	@Test
+	void sendCompressedClassLoaderFiles() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		ClassLoaderFiles files = new ClassLoaderFiles();
+		files.addFile("name", new ClassLoaderFile(Kind.ADDED, new byte[0]));
+		byte[] bytes = compress(serialize(files));
+		request.addHeader("Content-Encoding", "gzip");
+		request.setContent(bytes);
+		this.server.handle(new ServletServerHttpRequest(request), new ServletServerHttpResponse(response));
+		verify(this.delegate).updateAndRestart(this.filesCaptor.capture());
+		assertThat(this.filesCaptor.getValue().getFile("name")).isNotNull();
+		assertThat(response.getStatus()).isEqualTo(200);
+	}
+
+	@Test
+	void sendClassLoaderFilesWithUnsupportedContentEncoding() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		ClassLoaderFiles files = new ClassLoaderFiles();
+		files.addFile("name", new ClassLoaderFile(Kind.ADDED, new byte[0]));
+		request.addHeader("Content-Encoding", "br");
+		request.setContent(serialize(files));
+		this.server.handle(new ServletServerHttpRequest(request), new ServletServerHttpResponse(response));
+		verifyNoInteractions(this.delegate);
+		assertThat(response.getStatus()).isEqualTo(415);
+		assertThat(response.getHeader("Accept-Encoding")).isEqualTo("gzip");
 	}
 
 	@Test
@@ -116,4 +147,12 @@ class HttpRestartServerTests {
 		return bos.toByteArray();
 	}
 
+	private byte[] compress(byte[] bytes) throws IOException {
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		try (GZIPOutputStream gzip = new GZIPOutputStream(bos)) {
+			gzip.write(bytes);
+		}
+		return bos.toByteArray();
+	}
+
 }
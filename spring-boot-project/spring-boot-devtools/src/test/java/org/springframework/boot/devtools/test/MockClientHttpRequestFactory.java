@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,6 +24,7 @@ import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -60,6 +61,10 @@ public class MockClientHttpRequestFactory implements ClientHttpRequestFactory {
 		}
 	}
 
+	public void willRespond(HttpStatus status, HttpHeaders headers) {
+		this.responses.add(new Response(0, null, status, headers));
+	}
+
 	public void willRespond(IOException... response) {
 		for (IOException exception : response) {
 			this.responses.addLast(exception);
@@ -109,16 +114,24 @@ public class MockClientHttpRequestFactory implements ClientHttpRequestFactory {
 
 		private final HttpStatus status;
 
+		private final HttpHeaders headers;
+
 		Response(int delay, byte[] payload, HttpStatus status) {
+			this(delay, payload, status, HttpHeaders.EMPTY);
+		}
+
+		Response(int delay, byte[] payload, HttpStatus status, HttpHeaders headers) {
 			this.delay = delay;
 			this.payload = payload;
 			this.status = status;
+			this.headers = headers;
 		}
 
 		ClientHttpResponse asHttpResponse(AtomicLong seq) {
 			MockClientHttpResponse httpResponse = new MockClientHttpResponse(
 					(this.payload != null) ? this.payload : NO_DATA, this.status);
 			waitForDelay();
+			httpResponse.getHeaders().putAll(this.headers);
 			if (this.payload != null) {
 				httpResponse.getHeaders().setContentLength(this.payload.length);
 				httpResponse.getHeaders().setContentType(MediaType.APPLICATION_OCTET_STREAM);
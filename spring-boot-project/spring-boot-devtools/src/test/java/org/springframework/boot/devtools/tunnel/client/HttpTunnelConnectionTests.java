@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +23,8 @@ import java.net.ConnectException;
 import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
 import java.nio.channels.WritableByteChannel;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.concurrent.Executor;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -36,6 +38,7 @@ import org.springframework.boot.devtools.tunnel.client.HttpTunnelConnection.Tunn
 import org.springframework.boot.test.system.CapturedOutput;
 import org.springframework.boot.test.system.OutputCaptureExtension;
 import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpRequest;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
@@ -96,6 +99,38 @@ class HttpTunnelConnectionTests {
 				.withMessageContaining("RequestFactory must not be null");
 	}
 
+	@Test
+	void httpConnectionsMustBePositive() {
+		HttpTunnelConnection connection = new HttpTunnelConnection(this.url, this.requestFactory);
+		assertThatIllegalArgumentException().isThrownBy(() -> connection.setHttpConnections(0))
+				.withMessageContaining("HttpConnections must be a positive value");
+	}
+
+	@Test
+	void openWithMultipleHttpConnections() throws Exception {
+		QueuedExecutor executor = new QueuedExecutor();
+		HttpTunnelConnection connection = new HttpTunnelConnection(this.url, this.requestFactory, executor);
+		connection.setHttpConnections(3);
+		connection.open(this.incomingChannel, this.closeable);
+		assertThat(executor.tasks).hasSize(3);
+	}
+
+	@Test
+	void writesArrivingBeforeSendAreBatched() throws Exception {
+		this.requestFactory.willRespond(HttpStatus.TOO_MANY_REQUESTS);
+		QueuedExecutor executor = new QueuedExecutor();
+		HttpTunnelConnection connection = new HttpTunnelConnection(this.url, this.requestFactory, executor);
+		TunnelChannel channel = connection.open(this.incomingChannel, this.closeable);
+		write(channel, "1");
+		write(channel, "+");
+		write(channel, "1");
+		assertThat(executor.tasks).hasSize(2);
+		executor.tasks.removeLast().run();
+		MockClientHttpRequest request = this.requestFactory.getExecutedRequests().get(0);
+		assertThat(request.getBodyAsString()).isEqualTo("1+1");
+		assertThat(request.getHeaders().getFirst("x-seq")).isEqualTo("1");
+	}
+
 	@Test
 	void closeTunnelChangesIsOpen() throws Exception {
 		this.requestFactory.willRespondAfterDelay(1000, HttpStatus.GONE);
@@ -164,4 +199,15 @@ class HttpTunnelConnectionTests {
 
 	}
 
+	static class QueuedExecutor implements Executor {
+
+		private final Deque<Runnable> tasks = new ArrayDeque<>();
+
+		@Override
+		public void execute(Runnable command) {
+			this.tasks.add(command);
+		}
+
+	}
+
 }
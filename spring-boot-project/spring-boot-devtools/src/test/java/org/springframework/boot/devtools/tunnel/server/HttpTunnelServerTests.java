@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -215,6 +215,32 @@ class HttpTunnelServerTests {
 		this.server.getServerThread().join();
 	}
 
+	@Test
+	void maxHttpConnectionsCanBeIncreased() throws Exception {
+		givenServerConnectionOpenWillAnswerWithServerChannel();
+		this.server.setMaxHttpConnections(3);
+		MockHttpConnection h1 = new MockHttpConnection();
+		this.server.handle(h1);
+		MockHttpConnection h2 = new MockHttpConnection();
+		this.server.handle(h2);
+		MockHttpConnection h3 = new MockHttpConnection();
+		this.server.handle(h3);
+		MockHttpConnection h4 = new MockHttpConnection();
+		this.server.handle(h4);
+		h1.waitForResponse();
+		assertThat(h1.getServletResponse().getStatus()).isEqualTo(429);
+		this.serverChannel.send("hello");
+		h2.verifyReceived("hello", 1);
+		this.serverChannel.disconnect();
+		this.server.getServerThread().join();
+	}
+
+	@Test
+	void maxHttpConnectionsMustBePositive() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.server.setMaxHttpConnections(0))
+				.withMessageContaining("MaxHttpConnections must be a positive value");
+	}
+
 	@Test
 	void requestReceivedOutOfOrder() throws Exception {
 		givenServerConnectionOpenWillAnswerWithServerChannel();
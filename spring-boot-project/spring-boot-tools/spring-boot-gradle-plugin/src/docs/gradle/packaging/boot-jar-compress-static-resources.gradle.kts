@@ -0,0 +1,16 @@
+import org.springframework.boot.gradle.tasks.bundling.BootJar
+
+plugins {
+	java
+	id("org.springframework.boot") version "{gradle-project-version}"
+}
+
+tasks.getByName<BootJar>("bootJar") {
+	mainClass.set("com.example.ExampleApplication")
+}
+
+// tag::compress-static-resources[]
+tasks.getByName<BootJar>("bootJar") {
+	compressStaticResources.set(true)
+}
+// end::compress-static-resources[]
@@ -86,6 +86,18 @@ public interface BootArchive extends Task {
 	@Optional
 	LaunchScriptConfiguration getLaunchScript();
 
+	/**
+	 * Returns whether gzip compressed variants of the application's static resources
+	 * should be added to the archive so that they can be served without being compressed
+	 * on each request. Static resources are those in the {@code META-INF/resources},
+	 * {@code resources}, {@code static}, and {@code public} directories of the
+	 * application's classes. Defaults to {@code false}.
+	 * @return whether static resources should be compressed
+	 * @since 2.5.0
+	 */
+	@Input
+	Property<Boolean> getCompressStaticResources();
+
 	/**
 	 * Configures the archive to have a prepended launch script.
 	 */
@@ -42,6 +42,8 @@ import org.gradle.api.tasks.WorkResult;
 import org.gradle.api.tasks.bundling.Jar;
 import org.gradle.api.tasks.util.PatternSet;
 
+import org.springframework.boot.loader.tools.StaticResourceCompressor;
+
 /**
  * Support class for implementations of {@link BootArchive}.
  *
@@ -105,11 +107,12 @@ class BootArchiveSupport {
 		return (version != null) ? version : "unknown";
 	}
 
-	CopyAction createCopyAction(Jar jar) {
-		return createCopyAction(jar, null, null);
+	CopyAction createCopyAction(Jar jar, StaticResourceCompressor staticResourceCompressor) {
+		return createCopyAction(jar, staticResourceCompressor, null, null);
 	}
 
-	CopyAction createCopyAction(Jar jar, LayerResolver layerResolver, String layerToolsLocation) {
+	CopyAction createCopyAction(Jar jar, StaticResourceCompressor staticResourceCompressor,
+			LayerResolver layerResolver, String layerToolsLocation) {
 		File output = jar.getArchiveFile().get().getAsFile();
 		Manifest manifest = jar.getManifest();
 		boolean preserveFileTimestamps = jar.isPreserveFileTimestamps();
@@ -122,7 +125,7 @@ class BootArchiveSupport {
 		String encoding = jar.getMetadataCharset();
 		CopyAction action = new BootZipCopyAction(output, manifest, preserveFileTimestamps, includeDefaultLoader,
 				layerToolsLocation, requiresUnpack, exclusions, launchScript, librarySpec, compressionResolver,
-				encoding, layerResolver);
+				encoding, layerResolver, staticResourceCompressor);
 		return jar.isReproducibleFileOrder() ? new ReproducibleOrderingCopyAction(action) : action;
 	}
 
@@ -35,6 +35,8 @@ import org.gradle.api.tasks.Internal;
 import org.gradle.api.tasks.Nested;
 import org.gradle.api.tasks.bundling.Jar;
 
+import org.springframework.boot.loader.tools.StaticResourceCompressor;
+
 /**
  * A custom {@link Jar} task that produces a Spring Boot executable jar.
  *
@@ -64,6 +66,8 @@ public class BootJar extends Jar implements BootArchive {
 
 	private final Property<String> mainClass;
 
+	private final Property<Boolean> compressStaticResources;
+
 	private FileCollection classpath;
 
 	private LayeredSpec layered = new LayeredSpec();
@@ -76,6 +80,8 @@ public class BootJar extends Jar implements BootArchive {
 		Project project = getProject();
 		this.bootInfSpec = project.copySpec().into("BOOT-INF");
 		this.mainClass = project.getObjects().property(String.class);
+		this.compressStaticResources = project.getObjects().property(Boolean.class);
+		this.compressStaticResources.convention(false);
 		configureBootInfSpec(this.bootInfSpec);
 		getMainSpec().with(this.bootInfSpec);
 		project.getConfigurations().all((configuration) -> {
@@ -120,12 +126,14 @@ public class BootJar extends Jar implements BootArchive {
 
 	@Override
 	protected CopyAction createCopyAction() {
+		StaticResourceCompressor staticResourceCompressor = this.compressStaticResources.get()
+				? new StaticResourceCompressor(CLASSES_DIRECTORY) : null;
 		if (!isLayeredDisabled()) {
 			LayerResolver layerResolver = new LayerResolver(this.resolvedDependencies, this.layered, this::isLibrary);
 			String layerToolsLocation = this.layered.isIncludeLayerTools() ? LIB_DIRECTORY : null;
-			return this.support.createCopyAction(this, layerResolver, layerToolsLocation);
+			return this.support.createCopyAction(this, staticResourceCompressor, layerResolver, layerToolsLocation);
 		}
-		return this.support.createCopyAction(this);
+		return this.support.createCopyAction(this, staticResourceCompressor);
 	}
 
 	@Override
@@ -133,6 +141,11 @@ public class BootJar extends Jar implements BootArchive {
 		return this.mainClass;
 	}
 
+	@Override
+	public Property<Boolean> getCompressStaticResources() {
+		return this.compressStaticResources;
+	}
+
 	@Override
 	@Deprecated
 	public String getMainClassName() {
@@ -36,6 +36,8 @@ import org.gradle.api.tasks.Nested;
 import org.gradle.api.tasks.Optional;
 import org.gradle.api.tasks.bundling.War;
 
+import org.springframework.boot.loader.tools.StaticResourceCompressor;
+
 /**
  * A custom {@link War} task that produces a Spring Boot executable war.
  *
@@ -59,6 +61,8 @@ public class BootWar extends War implements BootArchive {
 
 	private final Property<String> mainClass;
 
+	private final Property<Boolean> compressStaticResources;
+
 	private FileCollection providedClasspath;
 
 	private final ResolvedDependencies resolvedDependencies = new ResolvedDependencies();
@@ -72,6 +76,8 @@ public class BootWar extends War implements BootArchive {
 		this.support = new BootArchiveSupport(LAUNCHER, new LibrarySpec(), new ZipCompressionResolver());
 		Project project = getProject();
 		this.mainClass = project.getObjects().property(String.class);
+		this.compressStaticResources = project.getObjects().property(Boolean.class);
+		this.compressStaticResources.convention(false);
 		getWebInf().into("lib-provided", fromCallTo(this::getProvidedLibFiles));
 		this.support.moveModuleInfoToRoot(getRootSpec());
 		getRootSpec().eachFile(this.support::excludeNonZipLibraryFiles);
@@ -102,12 +108,14 @@ public class BootWar extends War implements BootArchive {
 
 	@Override
 	protected CopyAction createCopyAction() {
+		StaticResourceCompressor staticResourceCompressor = this.compressStaticResources.get()
+				? new StaticResourceCompressor(CLASSES_DIRECTORY) : null;
 		if (!isLayeredDisabled()) {
 			LayerResolver layerResolver = new LayerResolver(this.resolvedDependencies, this.layered, this::isLibrary);
 			String layerToolsLocation = this.layered.isIncludeLayerTools() ? LIB_DIRECTORY : null;
-			return this.support.createCopyAction(this, layerResolver, layerToolsLocation);
+			return this.support.createCopyAction(this, staticResourceCompressor, layerResolver, layerToolsLocation);
 		}
-		return this.support.createCopyAction(this);
+		return this.support.createCopyAction(this, staticResourceCompressor);
 	}
 
 	@Override
@@ -115,6 +123,11 @@ public class BootWar extends War implements BootArchive {
 		return this.mainClass;
 	}
 
+	@Override
+	public Property<Boolean> getCompressStaticResources() {
+		return this.compressStaticResources;
+	}
+
 	@Override
 	@Deprecated
 	public String getMainClassName() {
@@ -17,6 +17,7 @@
 package org.springframework.boot.gradle.tasks.bundling;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -25,6 +26,8 @@ import java.io.OutputStreamWriter;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.GregorianCalendar;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -53,6 +56,7 @@ import org.springframework.boot.loader.tools.FileUtils;
 import org.springframework.boot.loader.tools.JarModeLibrary;
 import org.springframework.boot.loader.tools.Layer;
 import org.springframework.boot.loader.tools.LayersIndex;
+import org.springframework.boot.loader.tools.StaticResourceCompressor;
 import org.springframework.util.Assert;
 import org.springframework.util.StreamUtils;
 import org.springframework.util.StringUtils;
@@ -94,11 +98,13 @@ class BootZipCopyAction implements CopyAction {
 
 	private final LayerResolver layerResolver;
 
+	private final StaticResourceCompressor staticResourceCompressor;
+
 	BootZipCopyAction(File output, Manifest manifest, boolean preserveFileTimestamps, boolean includeDefaultLoader,
 			String layerToolsLocation, Spec<FileTreeElement> requiresUnpack, Spec<FileTreeElement> exclusions,
 			LaunchScriptConfiguration launchScript, Spec<FileCopyDetails> librarySpec,
-			Function<FileCopyDetails, ZipCompression> compressionResolver, String encoding,
-			LayerResolver layerResolver) {
+			Function<FileCopyDetails, ZipCompression> compressionResolver, String encoding, LayerResolver layerResolver,
+			StaticResourceCompressor staticResourceCompressor) {
 		this.output = output;
 		this.manifest = manifest;
 		this.preserveFileTimestamps = preserveFileTimestamps;
@@ -111,6 +117,7 @@ class BootZipCopyAction implements CopyAction {
 		this.compressionResolver = compressionResolver;
 		this.encoding = encoding;
 		this.layerResolver = layerResolver;
+		this.staticResourceCompressor = staticResourceCompressor;
 	}
 
 	@Override
@@ -193,6 +200,10 @@ class BootZipCopyAction implements CopyAction {
 
 		private final Set<String> writtenLibraries = new LinkedHashSet<>();
 
+		private final Set<String> writtenCompressedStaticResources = new HashSet<>();
+
+		private final Map<String, File> compressibleStaticResources = new LinkedHashMap<>();
+
 		Processor(ZipArchiveOutputStream out) {
 			this.out = out;
 			this.layerIndex = (BootZipCopyAction.this.layerResolver != null)
@@ -249,6 +260,19 @@ class BootZipCopyAction implements CopyAction {
 				Layer layer = BootZipCopyAction.this.layerResolver.getLayer(details);
 				this.layerIndex.add(layer, name);
 			}
+			if (BootZipCopyAction.this.staticResourceCompressor != null) {
+				processStaticResource(details, name);
+			}
+		}
+
+		private void processStaticResource(FileCopyDetails details, String name) {
+			StaticResourceCompressor compressor = BootZipCopyAction.this.staticResourceCompressor;
+			if (name.endsWith(StaticResourceCompressor.SUFFIX)) {
+				this.writtenCompressedStaticResources.add(name);
+			}
+			else if (compressor.isCompressible(name, details.getSize())) {
+				this.compressibleStaticResources.put(compressor.getCompressedName(name), details.getFile());
+			}
 		}
 
 		private void writeParentDirectoriesIfNecessary(String name, Long time) throws IOException {
@@ -271,6 +295,7 @@ class BootZipCopyAction implements CopyAction {
 
 		void finish() throws IOException {
 			writeLoaderEntriesIfNecessary(null);
+			writeCompressedStaticResourcesIfNecessary();
 			writeJarToolsIfNecessary();
 			writeClassPathIndexIfNecessary();
 			// We must write the layer index last
@@ -303,6 +328,18 @@ class BootZipCopyAction implements CopyAction {
 			return segments.length > 0 && "META-INF".equals(segments[0]);
 		}
 
+		private void writeCompressedStaticResourcesIfNecessary() throws IOException {
+			// Written once all files have been copied so that existing compressed variants win
+			StaticResourceCompressor compressor = BootZipCopyAction.this.staticResourceCompressor;
+			for (Map.Entry<String, File> resource : this.compressibleStaticResources.entrySet()) {
+				String name = resource.getKey();
+				if (this.writtenCompressedStaticResources.add(name)) {
+					File file = resource.getValue();
+					writeEntry(name, (out) -> compressor.compress(new FileInputStream(file), out), true);
+				}
+			}
+		}
+
 		private void writeJarToolsIfNecessary() throws IOException {
 			if (BootZipCopyAction.this.layerToolsLocation != null) {
 				writeJarModeLibrary(BootZipCopyAction.this.layerToolsLocation, JarModeLibrary.LAYER_TOOLS);
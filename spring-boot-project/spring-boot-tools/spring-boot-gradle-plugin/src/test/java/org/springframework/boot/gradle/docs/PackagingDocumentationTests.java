@@ -128,6 +128,14 @@ class PackagingDocumentationTests {
 		}
 	}
 
+	@TestTemplate
+	void bootJarCompressStaticResources() throws IOException {
+		this.gradleBuild.script("src/docs/gradle/packaging/boot-jar-compress-static-resources").build("bootJar");
+		File file = new File(this.gradleBuild.getProjectDir(),
+				"build/libs/" + this.gradleBuild.getProjectDir().getName() + ".jar");
+		assertThat(file).isFile();
+	}
+
 	@TestTemplate
 	void bootJarIncludeLaunchScript() throws IOException {
 		this.gradleBuild.script("src/docs/gradle/packaging/boot-jar-include-launch-script").build("bootJar");
@@ -21,12 +21,15 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.PosixFilePermission;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
@@ -39,6 +42,7 @@ import java.util.jar.JarFile;
 import java.util.jar.JarOutputStream;
 import java.util.jar.Manifest;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
@@ -68,6 +72,8 @@ import org.junit.jupiter.api.io.TempDir;
 
 import org.springframework.boot.loader.tools.DefaultLaunchScript;
 import org.springframework.boot.loader.tools.JarModeLibrary;
+import org.springframework.util.FileCopyUtils;
+import org.springframework.util.StreamUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -385,6 +391,68 @@ abstract class AbstractBootArchiveTests<T extends Jar & BootArchive> {
 		assertThat(textFiles).containsExactly("alpha.txt", "bravo.txt", "charlie.txt");
 	}
 
+	@Test
+	void staticResourcesAreNotCompressedByDefault() throws IOException {
+		this.task.getMainClass().set("com.example.Main");
+		this.task.classpath(createStaticResources());
+		executeTask();
+		try (JarFile jarFile = new JarFile(this.task.getArchiveFile().get().getAsFile())) {
+			assertThat(jarFile.getEntry(this.classesPath + "static/app.js")).isNotNull();
+			assertThat(jarFile.getEntry(this.classesPath + "static/app.js.gz")).isNull();
+		}
+	}
+
+	@Test
+	void staticResourcesCanBeCompressed() throws IOException {
+		this.task.getMainClass().set("com.example.Main");
+		this.task.classpath(createStaticResources());
+		this.task.getCompressStaticResources().set(true);
+		executeTask();
+		try (JarFile jarFile = new JarFile(this.task.getArchiveFile().get().getAsFile())) {
+			assertThat(jarFile.getEntry(this.classesPath + "static/app.js.gz")).isNotNull();
+			assertThat(jarFile.getEntry(this.classesPath + "static/small.js.gz")).isNull();
+			assertThat(jarFile.getEntry(this.classesPath + "static/image.png.gz")).isNull();
+			try (InputStream input = new GZIPInputStream(
+					jarFile.getInputStream(jarFile.getEntry(this.classesPath + "static/app.js.gz")))) {
+				assertThat(StreamUtils.copyToByteArray(input)).hasSize(4096);
+			}
+		}
+	}
+
+	@Test
+	void existingCompressedStaticResourceIsNotReplacedWhenStaticResourcesAreCompressed() throws IOException {
+		this.task.getMainClass().set("com.example.Main");
+		File resources = createStaticResources();
+		File staticResources = new File(resources, "static");
+		byte[] content = new byte[4096];
+		Arrays.fill(content, (byte) 'a');
+		FileCopyUtils.copy(content, new File(staticResources, "foo.css"));
+		FileCopyUtils.copy("existing".getBytes(StandardCharsets.UTF_8), new File(staticResources, "foo.css.gz"));
+		this.task.classpath(resources);
+		this.task.getCompressStaticResources().set(true);
+		executeTask();
+		try (JarFile jarFile = new JarFile(this.task.getArchiveFile().get().getAsFile())) {
+			String name = this.classesPath + "static/foo.css.gz";
+			assertThat(Collections.list(jarFile.entries()).stream().filter((entry) -> entry.getName().equals(name)))
+					.hasSize(1);
+			try (InputStream input = jarFile.getInputStream(jarFile.getEntry(name))) {
+				assertThat(StreamUtils.copyToString(input, StandardCharsets.UTF_8)).isEqualTo("existing");
+			}
+		}
+	}
+
+	private File createStaticResources() throws IOException {
+		File resources = new File(this.temp, "resources");
+		File staticResources = new File(resources, "static");
+		staticResources.mkdirs();
+		byte[] content = new byte[4096];
+		Arrays.fill(content, (byte) 'a');
+		FileCopyUtils.copy(content, new File(staticResources, "app.js"));
+		FileCopyUtils.copy(content, new File(staticResources, "image.png"));
+		FileCopyUtils.copy(new byte[16], new File(staticResources, "small.js"));
+		return resources;
+	}
+
 	@Test
 	void devtoolsJarIsExcludedByDefault() throws IOException {
 		this.task.getMainClass().set("com.example.Main");
@@ -20,12 +20,14 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Enumeration;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.TimeUnit;
 import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.jar.Manifest;
 import java.util.stream.Collectors;
@@ -88,6 +90,8 @@ public abstract class Packager {
 
 	private boolean includeRelevantJarModeJars = true;
 
+	private boolean compressStaticResources;
+
 	/**
 	 * Create a new {@link Packager} instance.
 	 * @param source the source archive file to package
@@ -175,6 +179,17 @@ public abstract class Packager {
 		this.includeRelevantJarModeJars = includeRelevantJarModeJars;
 	}
 
+	/**
+	 * Sets if gzip compressed variants of static resources should be added to the
+	 * archive.
+	 * @param compressStaticResources if compressed variants of static resources are added
+	 * @since 2.5.0
+	 * @see StaticResourceCompressor
+	 */
+	public void setCompressStaticResources(boolean compressStaticResources) {
+		this.compressStaticResources = compressStaticResources;
+	}
+
 	protected final boolean isAlreadyPackaged() {
 		return isAlreadyPackaged(this.source);
 	}
@@ -198,6 +213,10 @@ public abstract class Packager {
 		writer.writeManifest(buildManifest(sourceJar));
 		writeLoaderClasses(writer);
 		writer.writeEntries(sourceJar, getEntityTransformer(), writeableLibraries, writeableLibraries::containsEntry);
+		if (this.compressStaticResources) {
+			// Written after the source entries so that existing compressed variants win
+			writeCompressedStaticResources(sourceJar, writer);
+		}
 		writeableLibraries.write(writer);
 		if (isLayered()) {
 			writeLayerIndex(writer);
@@ -223,6 +242,23 @@ public abstract class Packager {
 		}
 	}
 
+	private void writeCompressedStaticResources(JarFile sourceJar, AbstractJarWriter writer) throws IOException {
+		Layout layout = getLayout();
+		String classesLocation = (layout instanceof RepackagingLayout)
+				? ((RepackagingLayout) layout).getRepackagedClassesLocation() : layout.getClassesLocation();
+		StaticResourceCompressor compressor = new StaticResourceCompressor(classesLocation);
+		EntryTransformer entryTransformer = getEntityTransformer();
+		Enumeration<JarEntry> entries = sourceJar.entries();
+		while (entries.hasMoreElements()) {
+			JarEntry entry = entries.nextElement();
+			JarArchiveEntry transformedEntry = entryTransformer.transform(new JarArchiveEntry(entry));
+			if (transformedEntry != null && compressor.isCompressible(transformedEntry.getName(), entry.getSize())) {
+				writer.writeEntry(compressor.getCompressedName(transformedEntry.getName()),
+						(outputStream) -> compressor.compress(sourceJar.getInputStream(entry), outputStream));
+			}
+		}
+	}
+
 	private EntryTransformer getEntityTransformer() {
 		if (getLayout() instanceof RepackagingLayout) {
 			return new RepackagingEntryTransformer((RepackagingLayout) getLayout());
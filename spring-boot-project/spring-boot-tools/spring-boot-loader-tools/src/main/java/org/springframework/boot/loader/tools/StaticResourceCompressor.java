@@ -0,0 +1,135 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.loader.tools;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.util.Assert;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Creates gzip compressed variants of the static resources in an archive so that they can
+ * be served without being compressed on each request. Static resources are those in the
+ * {@code META-INF/resources}, {@code resources}, {@code static}, and {@code public}
+ * directories of the classes location.
+ *
+ * @author agent
+ * @since 2.5.0
+ */
+public class StaticResourceCompressor {
+
+	/**
+	 * The suffix added to the name of a compressed static resource.
+	 */
+	public static final String SUFFIX = ".gz";
+
+	private static final String[] STATIC_RESOURCE_LOCATIONS = { "META-INF/resources/", "resources/", "static/",
+			"public/" };
+
+	private static final Set<String> COMPRESSED_EXTENSIONS = Collections.unmodifiableSet(new HashSet<>(
+			Arrays.asList(".gz", ".br", ".zip", ".jar", ".png", ".jpg", ".jpeg", ".gif", ".webp", ".woff", ".woff2",
+					".mp3", ".mp4", ".webm", ".ogg")));
+
+	private static final long MIN_SIZE = 2048;
+
+	private final String classesLocation;
+
+	/**
+	 * Create a new {@link StaticResourceCompressor} instance.
+	 * @param classesLocation the location of the classes in the archive, for example
+	 * {@code BOOT-INF/classes/}
+	 */
+	public StaticResourceCompressor(String classesLocation) {
+		Assert.notNull(classesLocation, "ClassesLocation must not be null");
+		this.classesLocation = classesLocation;
+	}
+
+	/**
+	 * Return whether the entry with the given name and size is a static resource that
+	 * should be compressed. Resources that are small or that are in a format that is
+	 * already compressed are not compressed.
+	 * @param name the name of the entry
+	 * @param size the size of the entry in bytes or {@code -1} if the size is not known
+	 * @return {@code true} if the entry should be compressed
+	 */
+	public boolean isCompressible(String name, long size) {
+		if (size < MIN_SIZE || name.endsWith("/") || !isStaticResource(name)) {
+			return false;
+		}
+		int extensionIndex = name.lastIndexOf('.');
+		return extensionIndex <= name.lastIndexOf('/')
+				|| !COMPRESSED_EXTENSIONS.contains(name.substring(extensionIndex).toLowerCase(Locale.ENGLISH));
+	}
+
+	private boolean isStaticResource(String name) {
+		if (!name.startsWith(this.classesLocation)) {
+			return false;
+		}
+		for (String location : STATIC_RESOURCE_LOCATIONS) {
+			if (name.startsWith(location, this.classesLocation.length())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Return the name of the compressed variant of the entry with the given name.
+	 * @param name the name of the entry
+	 * @return the name of the compressed variant
+	 */
+	public String getCompressedName(String name) {
+		return name + SUFFIX;
+	}
+
+	/**
+	 * Compress the content of the given input stream to the given output stream. The
+	 * input stream is closed once it has been read but the output stream is left open.
+	 * @param inputStream the uncompressed content
+	 * @param outputStream the destination of the compressed content
+	 * @throws IOException in case of I/O errors
+	 */
+	public void compress(InputStream inputStream, OutputStream outputStream) throws IOException {
+		try (InputStream input = inputStream;
+				GZIPOutputStream gzip = new BestCompressionGzipOutputStream(outputStream)) {
+			StreamUtils.copy(input, gzip);
+		}
+	}
+
+	/**
+	 * {@link GZIPOutputStream} that uses the best compression level and leaves the
+	 * underlying stream open when closed.
+	 */
+	private static final class BestCompressionGzipOutputStream extends GZIPOutputStream {
+
+		private BestCompressionGzipOutputStream(OutputStream outputStream) throws IOException {
+			super(StreamUtils.nonClosing(outputStream));
+			this.def.setLevel(Deflater.BEST_COMPRESSION);
+		}
+
+	}
+
+}
@@ -20,6 +20,7 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
@@ -484,6 +485,46 @@ abstract class AbstractPackagerTests<P extends Packager> {
 		assertThat(getPackagedEntry("BOOT-INF/classes/META-INF/aop.xml")).isNotNull();
 	}
 
+	@Test
+	void staticResourcesAreNotCompressedByDefault() throws Exception {
+		this.testJarFile.addClass("A.class", ClassWithMainMethod.class);
+		this.testJarFile.addFile("static/app.js", createStaticResource("app.js", 4096));
+		P packager = createPackager();
+		execute(packager, NO_LIBRARIES);
+		assertThat(hasPackagedEntry("BOOT-INF/classes/static/app.js")).isTrue();
+		assertThat(hasPackagedEntry("BOOT-INF/classes/static/app.js.gz")).isFalse();
+	}
+
+	@Test
+	void staticResourcesAreCompressedWhenEnabled() throws Exception {
+		this.testJarFile.addClass("A.class", ClassWithMainMethod.class);
+		this.testJarFile.addFile("static/app.js", createStaticResource("app.js", 4096));
+		this.testJarFile.addFile("static/small.js", createStaticResource("small.js", 16));
+		this.testJarFile.addFile("static/image.png", createStaticResource("image.png", 4096));
+		this.testJarFile.addFile("other/app.js", createStaticResource("other.js", 4096));
+		P packager = createPackager();
+		packager.setCompressStaticResources(true);
+		execute(packager, NO_LIBRARIES);
+		assertThat(hasPackagedEntry("BOOT-INF/classes/static/app.js.gz")).isTrue();
+		assertThat(hasPackagedEntry("BOOT-INF/classes/static/small.js.gz")).isFalse();
+		assertThat(hasPackagedEntry("BOOT-INF/classes/static/image.png.gz")).isFalse();
+		assertThat(hasPackagedEntry("BOOT-INF/classes/other/app.js.gz")).isFalse();
+	}
+
+	@Test
+	void existingCompressedStaticResourceIsNotReplacedWhenCompressionIsEnabled() throws Exception {
+		this.testJarFile.addClass("A.class", ClassWithMainMethod.class);
+		this.testJarFile.addFile("static/app.js", createStaticResource("app.js", 4096));
+		File compressed = new File(this.tempDir, "app.js.gz");
+		FileCopyUtils.copy("existing".getBytes(StandardCharsets.UTF_8), compressed);
+		this.testJarFile.addFile("static/app.js.gz", compressed);
+		P packager = createPackager();
+		packager.setCompressStaticResources(true);
+		execute(packager, NO_LIBRARIES);
+		assertThat(getPackagedEntryContent("BOOT-INF/classes/static/app.js.gz")).isEqualTo("existing");
+		assertThat(getPackagedEntryNames()).containsOnlyOnce("BOOT-INF/classes/static/app.js.gz");
+	}
+
 	@Test
 	void allEntriesUseUnixPlatformAndUtf8NameEncoding() throws IOException {
 		this.testJarFile.addClass("A.class", ClassWithMainMethod.class);
@@ -583,6 +624,14 @@ abstract class AbstractPackagerTests<P extends Packager> {
 		assertThat(getPackagedEntry("BOOT-INF/classes/META-INF/test.kotlin_module")).isNotNull();
 	}
 
+	private File createStaticResource(String name, int size) throws IOException {
+		File file = new File(this.tempDir, name);
+		byte[] content = new byte[size];
+		Arrays.fill(content, (byte) 'a');
+		FileCopyUtils.copy(content, file);
+		return file;
+	}
+
 	private File createLibrary() throws IOException {
 		TestJarFile library = new TestJarFile(this.tempDir);
 		library.addClass("com/example/library/Library.class", ClassWithoutMainMethod.class);
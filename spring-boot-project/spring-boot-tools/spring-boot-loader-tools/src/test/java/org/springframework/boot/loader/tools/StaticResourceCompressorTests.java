@@ -0,0 +1,84 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.loader.tools;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.util.StreamUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link StaticResourceCompressor}.
+ *
+ * @author agent
+ */
+class StaticResourceCompressorTests {
+
+	private final StaticResourceCompressor compressor = new StaticResourceCompressor("BOOT-INF/classes/");
+
+	@Test
+	void resourcesInStaticLocationsAreCompressible() {
+		assertThat(this.compressor.isCompressible("BOOT-INF/classes/static/app.js", 4096)).isTrue();
+		assertThat(this.compressor.isCompressible("BOOT-INF/classes/public/app.css", 4096)).isTrue();
+		assertThat(this.compressor.isCompressible("BOOT-INF/classes/resources/index.html", 4096)).isTrue();
+		assertThat(this.compressor.isCompressible("BOOT-INF/classes/META-INF/resources/app.js", 4096)).isTrue();
+		assertThat(this.compressor.isCompressible("BOOT-INF/classes/static/LICENSE", 4096)).isTrue();
+	}
+
+	@Test
+	void resourcesOutsideOfStaticLocationsAreNotCompressible() {
+		assertThat(this.compressor.isCompressible("BOOT-INF/classes/templates/index.html", 4096)).isFalse();
+		assertThat(this.compressor.isCompressible("static/app.js", 4096)).isFalse();
+		assertThat(this.compressor.isCompressible("BOOT-INF/lib/static/app.js", 4096)).isFalse();
+	}
+
+	@Test
+	void smallResourcesAreNotCompressible() {
+		assertThat(this.compressor.isCompressible("BOOT-INF/classes/static/app.js", 100)).isFalse();
+		assertThat(this.compressor.isCompressible("BOOT-INF/classes/static/app.js", -1)).isFalse();
+	}
+
+	@Test
+	void compressedResourcesAndDirectoriesAreNotCompressible() {
+		assertThat(this.compressor.isCompressible("BOOT-INF/classes/static/app.js.gz", 4096)).isFalse();
+		assertThat(this.compressor.isCompressible("BOOT-INF/classes/static/image.PNG", 4096)).isFalse();
+		assertThat(this.compressor.isCompressible("BOOT-INF/classes/static/fonts.woff2", 4096)).isFalse();
+		assertThat(this.compressor.isCompressible("BOOT-INF/classes/static/images.d/", 4096)).isFalse();
+	}
+
+	@Test
+	void getCompressedNameAddsSuffix() {
+		assertThat(this.compressor.getCompressedName("static/app.js")).isEqualTo("static/app.js.gz");
+	}
+
+	@Test
+	void compressWritesGzipContent() throws IOException {
+		byte[] content = "body { color: red; }".getBytes();
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		this.compressor.compress(new ByteArrayInputStream(content), outputStream);
+		byte[] decompressed = StreamUtils
+				.copyToByteArray(new GZIPInputStream(new ByteArrayInputStream(outputStream.toByteArray())));
+		assertThat(decompressed).isEqualTo(content);
+	}
+
+}
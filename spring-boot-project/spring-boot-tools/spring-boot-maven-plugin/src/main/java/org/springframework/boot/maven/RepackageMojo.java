@@ -172,6 +172,17 @@ public class RepackageMojo extends AbstractPackagerMojo {
 	@Parameter
 	private LayoutFactory layoutFactory;
 
+	/**
+	 * Whether to add gzip compressed variants of static resources to the archive so that
+	 * they can be served without being compressed on each request. Static resources are
+	 * those in the {@code META-INF/resources}, {@code resources}, {@code static}, and
+	 * {@code public} directories of the application's classes. Existing {@code .gz}
+	 * variants are packaged as-is.
+	 * @since 2.5.0
+	 */
+	@Parameter(property = "spring-boot.repackage.compressStaticResources", defaultValue = "false")
+	private boolean compressStaticResources;
+
 	/**
 	 * Return the type of archive that should be packaged by this MOJO.
 	 * @return the value of the {@code layout} parameter, or {@code null} if the parameter
@@ -240,7 +251,9 @@ public class RepackageMojo extends AbstractPackagerMojo {
 	}
 
 	private Repackager getRepackager(File source) {
-		return getConfiguredPackager(() -> new Repackager(source));
+		Repackager repackager = getConfiguredPackager(() -> new Repackager(source));
+		repackager.setCompressStaticResources(this.compressStaticResources);
+		return repackager;
 	}
 
 	private LaunchScript getLaunchScript() throws IOException {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,9 +16,11 @@
 
 package org.springframework.boot.logging;
 
-import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 
 import org.apache.commons.logging.Log;
@@ -28,7 +30,9 @@ import org.springframework.util.Assert;
 
 /**
  * Deferred {@link Log} that can be used to store messages that shouldn't be written until
- * the logging system is fully initialized.
+ * the logging system is fully initialized. Messages are buffered without locking up to a
+ * fixed capacity. Any further messages are discarded and reported when the log is
+ * replayed.
  *
  * @author Phillip Webb
  * @since 1.3.0
@@ -63,44 +67,38 @@ public class DeferredLog implements Log {
 
 	@Override
 	public boolean isTraceEnabled() {
-		synchronized (this.lines) {
-			return (this.destination == null) || this.destination.isTraceEnabled();
-		}
+		Log destination = this.destination;
+		return (destination == null) || destination.isTraceEnabled();
 	}
 
 	@Override
 	public boolean isDebugEnabled() {
-		synchronized (this.lines) {
-			return (this.destination == null) || this.destination.isDebugEnabled();
-		}
+		Log destination = this.destination;
+		return (destination == null) || destination.isDebugEnabled();
 	}
 
 	@Override
 	public boolean isInfoEnabled() {
-		synchronized (this.lines) {
-			return (this.destination == null) || this.destination.isInfoEnabled();
-		}
+		Log destination = this.destination;
+		return (destination == null) || destination.isInfoEnabled();
 	}
 
 	@Override
 	public boolean isWarnEnabled() {
-		synchronized (this.lines) {
-			return (this.destination == null) || this.destination.isWarnEnabled();
-		}
+		Log destination = this.destination;
+		return (destination == null) || destination.isWarnEnabled();
 	}
 
 	@Override
 	public boolean isErrorEnabled() {
-		synchronized (this.lines) {
-			return (this.destination == null) || this.destination.isErrorEnabled();
-		}
+		Log destination = this.destination;
+		return (destination == null) || destination.isErrorEnabled();
 	}
 
 	@Override
 	public boolean isFatalEnabled() {
-		synchronized (this.lines) {
-			return (this.destination == null) || this.destination.isFatalEnabled();
-		}
+		Log destination = this.destination;
+		return (destination == null) || destination.isFatalEnabled();
 	}
 
 	@Override
@@ -164,12 +162,20 @@ public class DeferredLog implements Log {
 	}
 
 	private void log(LogLevel level, Object message, Throwable t) {
-		synchronized (this.lines) {
-			if (this.destination != null) {
-				logTo(this.destination, level, message, t);
+		Log destination = this.destination;
+		if (destination != null) {
+			logTo(destination, level, message, t);
+			return;
+		}
+		this.lines.add(this.destinationSupplier, level, message, t);
+		destination = this.destination;
+		if (destination != null) {
+			// We switched while the line was being added so it may have been missed
+			if (this.destinationSupplier != null) {
+				this.lines.replay();
 			}
 			else {
-				this.lines.add(this.destinationSupplier, level, message, t);
+				this.lines.replayTo(destination);
 			}
 		}
 	}
@@ -193,10 +199,9 @@ public class DeferredLog implements Log {
 	 * @since 2.1.0
 	 */
 	public void switchTo(Log destination) {
-		synchronized (this.lines) {
-			replayTo(destination);
-			this.destination = destination;
-		}
+		this.lines.replayTo(destination);
+		this.destination = destination;
+		this.lines.replayTo(destination);
 	}
 
 	/**
@@ -212,12 +217,7 @@ public class DeferredLog implements Log {
 	 * @param destination the destination for the deferred log messages
 	 */
 	public void replayTo(Log destination) {
-		synchronized (this.lines) {
-			for (Line line : this.lines) {
-				logTo(destination, line.getLevel(), line.getMessage(), line.getThrowable());
-			}
-			this.lines.clear();
-		}
+		this.lines.replayTo(destination);
 	}
 
 	/**
@@ -265,16 +265,82 @@ public class DeferredLog implements Log {
 		}
 	}
 
+	/**
+	 * Lock-free, append-only buffer of deferred {@link Line lines} with a bounded
+	 * capacity.
+	 */
 	static class Lines implements Iterable<Line> {
 
-		private final List<Line> lines = new ArrayList<>();
+		static final int DEFAULT_CAPACITY = 10000;
+
+		private final Queue<Line> lines = new ConcurrentLinkedQueue<>();
+
+		private final AtomicInteger size = new AtomicInteger();
+
+		private final AtomicLong discarded = new AtomicLong();
+
+		private final int capacity;
+
+		Lines() {
+			this(DEFAULT_CAPACITY);
+		}
+
+		Lines(int capacity) {
+			this.capacity = capacity;
+		}
 
 		void add(Supplier<Log> destinationSupplier, LogLevel level, Object message, Throwable throwable) {
+			if (this.size.incrementAndGet() > this.capacity) {
+				this.size.decrementAndGet();
+				this.discarded.incrementAndGet();
+				return;
+			}
 			this.lines.add(new Line(destinationSupplier, level, message, throwable));
 		}
 
-		void clear() {
-			this.lines.clear();
+		/**
+		 * Replay and remove all lines, logging each to its own destination.
+		 */
+		void replay() {
+			Line line = poll();
+			while (line != null) {
+				logTo(line.getDestination(), line.getLevel(), line.getMessage(), line.getThrowable());
+				line = poll();
+			}
+			reportDiscarded(LogFactory.getLog(DeferredLog.class));
+		}
+
+		/**
+		 * Replay and remove all lines, logging each to the given destination.
+		 * @param destination the destination for all lines
+		 */
+		void replayTo(Log destination) {
+			Line line = poll();
+			while (line != null) {
+				logTo(destination, line.getLevel(), line.getMessage(), line.getThrowable());
+				line = poll();
+			}
+			reportDiscarded(destination);
+		}
+
+		private Line poll() {
+			Line line = this.lines.poll();
+			if (line != null) {
+				this.size.decrementAndGet();
+			}
+			return line;
+		}
+
+		private void reportDiscarded(Log destination) {
+			long discarded = this.discarded.getAndSet(0);
+			if (discarded > 0) {
+				destination.warn(discarded + " deferred log messages were discarded as the maximum of "
+						+ this.capacity + " was reached");
+			}
+		}
+
+		long getDiscarded() {
+			return this.discarded.get();
 		}
 
 		@Override
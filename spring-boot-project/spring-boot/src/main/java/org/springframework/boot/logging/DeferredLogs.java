@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,14 +16,13 @@
 
 package org.springframework.boot.logging;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Supplier;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
-import org.springframework.boot.logging.DeferredLog.Line;
 import org.springframework.boot.logging.DeferredLog.Lines;
 
 /**
@@ -37,7 +36,7 @@ public class DeferredLogs implements DeferredLogFactory {
 
 	private final Lines lines = new Lines();
 
-	private final List<DeferredLog> loggers = new ArrayList<>();
+	private final Queue<DeferredLog> loggers = new ConcurrentLinkedQueue<>();
 
 	/**
 	 * Create a new {@link DeferredLog} for the given destination.
@@ -69,27 +68,21 @@ public class DeferredLogs implements DeferredLogFactory {
 	 */
 	@Override
 	public Log getLog(Supplier<Log> destination) {
-		synchronized (this.lines) {
-			DeferredLog logger = new DeferredLog(destination, this.lines);
-			this.loggers.add(logger);
-			return logger;
-		}
+		DeferredLog logger = new DeferredLog(destination, this.lines);
+		this.loggers.add(logger);
+		return logger;
 	}
 
 	/**
 	 * Switch over all deferred logs to their supplied destination.
 	 */
 	public void switchOverAll() {
-		synchronized (this.lines) {
-			for (Line line : this.lines) {
-				DeferredLog.logTo(line.getDestination(), line.getLevel(), line.getMessage(), line.getThrowable());
-			}
-			for (DeferredLog logger : this.loggers) {
-				logger.switchOver();
-			}
-			this.lines.clear();
+		this.lines.replay();
+		for (DeferredLog logger : this.loggers) {
+			logger.switchOver();
 		}
-
+		// Replay any lines that were added while switching
+		this.lines.replay();
 	}
 
 }
@@ -0,0 +1,265 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.logging;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * Writes log events as single line JSON objects for structured logging. Field names are
+ * precomputed and events are appended to a caller provided {@link StringBuilder} so that
+ * logging systems can reuse their buffers. Entries of the mapped diagnostic context are
+ * nested in an {@code mdc} object so that they cannot clash with the event's own fields.
+ *
+ * @author agent
+ * @since 2.5.0
+ */
+public class JsonLogWriter {
+
+	/**
+	 * Name of the structured logging format supported by this writer.
+	 */
+	public static final String FORMAT = "json";
+
+	private static final DateTimeFormatter SECONDS_FORMATTER = DateTimeFormatter
+			.ofPattern("yyyy-MM-dd'T'HH:mm:ss.").withZone(ZoneOffset.UTC);
+
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+	private static final String TIMESTAMP = "{\"timestamp\":\"";
+
+	private static final String LEVEL = "\",\"level\":\"";
+
+	private static final String THREAD = "\",\"thread\":\"";
+
+	private static final String LOGGER = "\",\"logger\":\"";
+
+	private static final String MESSAGE = "\",\"message\":\"";
+
+	private static final String MDC = ",\"mdc\":{";
+
+	private static final String STACK_TRACE = ",\"stackTrace\":\"";
+
+	private static final MdcWriter<Map<String, String>> MAP_MDC_WRITER = (mdc, output) -> {
+		for (Map.Entry<String, String> entry : mdc.entrySet()) {
+			writeMdcEntry(output, entry.getKey(), entry.getValue());
+		}
+	};
+
+	private final String applicationFields;
+
+	private volatile CachedSeconds cachedSeconds;
+
+	/**
+	 * Create a new {@link JsonLogWriter} instance.
+	 * @param pid the process ID to include in each event or {@code null}
+	 * @param applicationName the application name to include in each event or
+	 * {@code null}
+	 */
+	public JsonLogWriter(String pid, String applicationName) {
+		StringBuilder applicationFields = new StringBuilder();
+		appendField(applicationFields, "pid", StringUtils.hasText(pid) ? pid.trim() : null);
+		appendField(applicationFields, "application", StringUtils.hasText(applicationName) ? applicationName : null);
+		this.applicationFields = applicationFields.toString();
+	}
+
+	/**
+	 * Write a log event as a JSON object to the given output. No line separator is
+	 * written.
+	 * @param output the output to append to
+	 * @param timestamp the event timestamp in milliseconds since the epoch
+	 * @param level the event level
+	 * @param thread the name of the thread that logged the event
+	 * @param logger the name of the logger
+	 * @param message the formatted message
+	 * @param mdc the mapped diagnostic context or {@code null}
+	 * @param stackTrace the stack trace of the logged exception or {@code null}
+	 */
+	public void write(StringBuilder output, long timestamp, String level, String thread, String logger,
+			CharSequence message, Map<String, String> mdc, CharSequence stackTrace) {
+		write(output, timestamp, level, thread, logger, message, mdc, MAP_MDC_WRITER, stackTrace);
+	}
+
+	/**
+	 * Write a log event as a JSON object to the given output. No line separator is
+	 * written. The entries of the mapped diagnostic context are written by the given
+	 * {@link MdcWriter} so that they do not have to be copied.
+	 * @param <T> the type of the mapped diagnostic context
+	 * @param output the output to append to
+	 * @param timestamp the event timestamp in milliseconds since the epoch
+	 * @param level the event level
+	 * @param thread the name of the thread that logged the event
+	 * @param logger the name of the logger
+	 * @param message the formatted message
+	 * @param mdc the mapped diagnostic context or {@code null}
+	 * @param mdcWriter the writer used to write the entries of the mapped diagnostic
+	 * context
+	 * @param stackTrace the stack trace of the logged exception or {@code null}
+	 */
+	public <T> void write(StringBuilder output, long timestamp, String level, String thread, String logger,
+			CharSequence message, T mdc, MdcWriter<T> mdcWriter, CharSequence stackTrace) {
+		output.append(TIMESTAMP);
+		appendTimestamp(output, timestamp);
+		output.append(LEVEL).append(level);
+		output.append(THREAD);
+		appendEscaped(output, thread);
+		output.append(LOGGER);
+		appendEscaped(output, logger);
+		output.append(MESSAGE);
+		appendEscaped(output, message);
+		output.append('"');
+		output.append(this.applicationFields);
+		if (mdc != null) {
+			appendMdc(output, mdc, mdcWriter);
+		}
+		if (stackTrace != null) {
+			output.append(STACK_TRACE);
+			appendEscaped(output, stackTrace);
+			output.append('"');
+		}
+		output.append('}');
+	}
+
+	private void appendTimestamp(StringBuilder output, long timestamp) {
+		long epochSecond = Math.floorDiv(timestamp, 1000L);
+		CachedSeconds cachedSeconds = this.cachedSeconds;
+		if (cachedSeconds == null || cachedSeconds.epochSecond != epochSecond) {
+			cachedSeconds = new CachedSeconds(epochSecond,
+					SECONDS_FORMATTER.format(Instant.ofEpochSecond(epochSecond)));
+			this.cachedSeconds = cachedSeconds;
+		}
+		output.append(cachedSeconds.formatted);
+		int millis = (int) Math.floorMod(timestamp, 1000L);
+		if (millis < 100) {
+			output.append('0');
+		}
+		if (millis < 10) {
+			output.append('0');
+		}
+		output.append(millis).append('Z');
+	}
+
+	private <T> void appendMdc(StringBuilder output, T mdc, MdcWriter<T> mdcWriter) {
+		output.append(MDC);
+		int start = output.length();
+		mdcWriter.write(mdc, output);
+		if (output.length() == start) {
+			output.setLength(start - MDC.length());
+			return;
+		}
+		// Each entry is preceded by a separator that is not needed by the first
+		output.deleteCharAt(start);
+		output.append('}');
+	}
+
+	/**
+	 * Write an entry of a mapped diagnostic context. Intended to be called by an
+	 * {@link MdcWriter} for each entry of the context. Entries with an empty key or a
+	 * {@code null} value are ignored.
+	 * @param output the output passed to the {@link MdcWriter}
+	 * @param key the key of the entry
+	 * @param value the value of the entry
+	 */
+	public static void writeMdcEntry(StringBuilder output, String key, Object value) {
+		if (value != null) {
+			appendField(output, key, (value instanceof CharSequence) ? (CharSequence) value : value.toString());
+		}
+	}
+
+	private static void appendField(StringBuilder output, String name, CharSequence value) {
+		if (StringUtils.hasLength(name) && value != null) {
+			output.append(",\"");
+			appendEscaped(output, name);
+			output.append("\":\"");
+			appendEscaped(output, value);
+			output.append('"');
+		}
+	}
+
+	private static void appendEscaped(StringBuilder output, CharSequence value) {
+		if (value == null) {
+			return;
+		}
+		for (int i = 0; i < value.length(); i++) {
+			char ch = value.charAt(i);
+			switch (ch) {
+			case '"':
+				output.append("\\\"");
+				break;
+			case '\\':
+				output.append("\\\\");
+				break;
+			case '\n':
+				output.append("\\n");
+				break;
+			case '\r':
+				output.append("\\r");
+				break;
+			case '\t':
+				output.append("\\t");
+				break;
+			default:
+				if (ch < 0x20) {
+					output.append("\\u00").append(HEX_DIGITS[ch >> 4]).append(HEX_DIGITS[ch & 0xF]);
+				}
+				else {
+					output.append(ch);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Callback used to write the entries of a mapped diagnostic context.
+	 *
+	 * @param <T> the type of the mapped diagnostic context
+	 */
+	@FunctionalInterface
+	public interface MdcWriter<T> {
+
+		/**
+		 * Write each entry of the given mapped diagnostic context by calling
+		 * {@link JsonLogWriter#writeMdcEntry(StringBuilder, String, Object)}.
+		 * @param mdc the mapped diagnostic context
+		 * @param output the output to write to
+		 */
+		void write(T mdc, StringBuilder output);
+
+	}
+
+	/**
+	 * Formatted timestamp for a whole second, cached since many events are usually
+	 * logged within the same second.
+	 */
+	private static final class CachedSeconds {
+
+		private final long epochSecond;
+
+		private final String formatted;
+
+		CachedSeconds(long epochSecond, String formatted) {
+			this.epochSecond = epochSecond;
+			this.formatted = formatted;
+		}
+
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,8 +18,11 @@ package org.springframework.boot.logging;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 /**
  * A single logger group.
@@ -62,4 +65,19 @@ public final class LoggerGroup {
 		this.members.forEach((name) -> configurer.accept(name, level));
 	}
 
+	/**
+	 * Configure the log level of all members with a single call to the given
+	 * configurer.
+	 * @param level the log level to apply
+	 * @param configurer the configurer that applies the levels of all members
+	 * @since 2.5.0
+	 * @see LoggingSystem#setLogLevels(Map)
+	 */
+	public void configureLogLevel(LogLevel level, Consumer<Map<String, LogLevel>> configurer) {
+		this.configuredLevel = level;
+		Map<String, LogLevel> levels = new LinkedHashMap<>();
+		this.members.forEach((name) -> levels.put(name, level));
+		configurer.accept(levels);
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,7 +20,9 @@ import java.lang.reflect.Constructor;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.util.Assert;
@@ -123,6 +125,18 @@ public abstract class LoggingSystem {
 		throw new UnsupportedOperationException("Unable to set log level");
 	}
 
+	/**
+	 * Sets the logging level for several loggers at once. Logging systems that need to
+	 * update their context after a level change may override this method to apply all
+	 * levels in a single update.
+	 * @param levels the log levels keyed by logger name (see
+	 * {@link #setLogLevel(String, LogLevel)})
+	 * @since 2.5.0
+	 */
+	public void setLogLevels(Map<String, LogLevel> levels) {
+		levels.forEach(this::setLogLevel);
+	}
+
 	/**
 	 * Returns a collection of the current configuration for all a {@link LoggingSystem}'s
 	 * loggers.
@@ -133,6 +147,22 @@ public abstract class LoggingSystem {
 		throw new UnsupportedOperationException("Unable to get logger configurations");
 	}
 
+	/**
+	 * Returns a collection of the current configuration for the {@link LoggingSystem}'s
+	 * loggers whose name starts with the given prefix.
+	 * @param prefix the logger name prefix ({@code null} or empty to return all loggers)
+	 * @return the current configurations
+	 * @since 2.5.0
+	 */
+	public List<LoggerConfiguration> getLoggerConfigurations(String prefix) {
+		List<LoggerConfiguration> configurations = getLoggerConfigurations();
+		if (configurations == null || !StringUtils.hasLength(prefix)) {
+			return configurations;
+		}
+		return configurations.stream().filter((configuration) -> configuration.getName().startsWith(prefix))
+				.collect(Collectors.toList());
+	}
+
 	/**
 	 * Returns the current configuration for a {@link LoggingSystem}'s logger.
 	 * @param loggerName the name of the logger
@@ -131,6 +131,32 @@ public class LoggingSystemProperties {
 	 */
 	public static final String LOG_DATEFORMAT_PATTERN = "LOG_DATEFORMAT_PATTERN";
 
+	/**
+	 * The name of the System property that contains the flag to enable asynchronous
+	 * logging.
+	 * @since 2.5.0
+	 */
+	public static final String ASYNC_ENABLED = "LOG_ASYNC_ENABLED";
+
+	/**
+	 * The name of the System property that contains the asynchronous logging queue size.
+	 * @since 2.5.0
+	 */
+	public static final String ASYNC_QUEUE_SIZE = "LOG_ASYNC_QUEUE_SIZE";
+
+	/**
+	 * The name of the System property that contains the structured log format.
+	 * @since 2.5.0
+	 */
+	public static final String STRUCTURED_FORMAT = "LOG_STRUCTURED_FORMAT";
+
+	/**
+	 * The name of the System property that contains the application name included in
+	 * structured log events.
+	 * @since 2.5.0
+	 */
+	public static final String APPLICATION_NAME = "LOGGED_APPLICATION_NAME";
+
 	private static final BiConsumer<String, String> systemPropertySetter = (name, value) -> {
 		if (System.getProperty(name) == null && value != null) {
 			System.setProperty(name, value);
@@ -184,12 +210,25 @@ public class LoggingSystemProperties {
 		setSystemProperty(resolver, FILE_LOG_PATTERN, "logging.pattern.file");
 		setSystemProperty(resolver, FILE_LOG_CHARSET, "logging.charset.file", getDefaultCharset().name());
 		setSystemProperty(resolver, LOG_LEVEL_PATTERN, "logging.pattern.level");
+		setSystemProperty(resolver, ASYNC_ENABLED, "logging.async.enabled");
+		setSystemProperty(resolver, ASYNC_QUEUE_SIZE, "logging.async.queue-size");
+		applyStructured(resolver);
 		applyDeprecated(resolver);
 		if (logFile != null) {
 			logFile.applyToSystemProperties();
 		}
 	}
 
+	private void applyStructured(PropertyResolver resolver) {
+		String format = resolver.getProperty("logging.structured.format");
+		if (format != null) {
+			Assert.state(JsonLogWriter.FORMAT.equalsIgnoreCase(format.trim()),
+					() -> "Unsupported structured logging format '" + format + "'");
+			setSystemProperty(STRUCTURED_FORMAT, JsonLogWriter.FORMAT);
+		}
+		setSystemProperty(resolver, APPLICATION_NAME, "spring.application.name");
+	}
+
 	private void applyDeprecated(PropertyResolver resolver) {
 		setSystemProperty(resolver, FILE_CLEAN_HISTORY_ON_START, "logging.file.clean-history-on-start");
 		setSystemProperty(resolver, FILE_MAX_HISTORY, "logging.file.max-history");
@@ -33,7 +33,9 @@ import org.apache.logging.log4j.core.Filter;
 import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.core.Logger;
 import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.AsyncAppender;
 import org.apache.logging.log4j.core.config.AbstractConfiguration;
+import org.apache.logging.log4j.core.config.AppenderRef;
 import org.apache.logging.log4j.core.config.Configuration;
 import org.apache.logging.log4j.core.config.ConfigurationFactory;
 import org.apache.logging.log4j.core.config.ConfigurationSource;
@@ -42,12 +44,14 @@ import org.apache.logging.log4j.core.filter.AbstractFilter;
 import org.apache.logging.log4j.core.util.NameUtil;
 import org.apache.logging.log4j.message.Message;
 
+import org.springframework.boot.logging.JsonLogWriter;
 import org.springframework.boot.logging.LogFile;
 import org.springframework.boot.logging.LogLevel;
 import org.springframework.boot.logging.LoggerConfiguration;
 import org.springframework.boot.logging.LoggingInitializationContext;
 import org.springframework.boot.logging.LoggingSystem;
 import org.springframework.boot.logging.LoggingSystemFactory;
+import org.springframework.boot.logging.LoggingSystemProperties;
 import org.springframework.boot.logging.Slf4JLoggingSystem;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
@@ -69,6 +73,8 @@ public class Log4J2LoggingSystem extends Slf4JLoggingSystem {
 
 	private static final String FILE_PROTOCOL = "file";
 
+	private static final int DEFAULT_ASYNC_QUEUE_SIZE = 1024;
+
 	private static final LogLevels<Level> LEVELS = new LogLevels<>();
 
 	static {
@@ -166,12 +172,33 @@ public class Log4J2LoggingSystem extends Slf4JLoggingSystem {
 
 	@Override
 	protected void loadDefaults(LoggingInitializationContext initializationContext, LogFile logFile) {
+		String suffix = JsonLogWriter.FORMAT.equals(System.getProperty(LoggingSystemProperties.STRUCTURED_FORMAT))
+				? "-json" : "";
 		if (logFile != null) {
-			loadConfiguration(getPackagedConfigFile("log4j2-file.xml"), logFile);
+			loadConfiguration(getPackagedConfigFile("log4j2-file" + suffix + ".xml"), logFile);
 		}
 		else {
-			loadConfiguration(getPackagedConfigFile("log4j2.xml"), logFile);
+			loadConfiguration(getPackagedConfigFile("log4j2" + suffix + ".xml"), logFile);
+		}
+		if (Boolean.getBoolean(LoggingSystemProperties.ASYNC_ENABLED)) {
+			applyAsync(Integer.getInteger(LoggingSystemProperties.ASYNC_QUEUE_SIZE, DEFAULT_ASYNC_QUEUE_SIZE));
+		}
+	}
+
+	private void applyAsync(int queueSize) {
+		LoggerContext loggerContext = getLoggerContext();
+		Configuration configuration = loggerContext.getConfiguration();
+		LoggerConfig rootLogger = configuration.getRootLogger();
+		for (String name : new ArrayList<>(rootLogger.getAppenders().keySet())) {
+			AsyncAppender asyncAppender = AsyncAppender.newBuilder().setName("Async" + name)
+					.setAppenderRefs(new AppenderRef[] { AppenderRef.createAppenderRef(name, null, null) })
+					.setBufferSize(queueSize).setConfiguration(configuration).build();
+			asyncAppender.start();
+			configuration.addAppender(asyncAppender);
+			rootLogger.removeAppender(name);
+			rootLogger.addAppender(asyncAppender, null, null);
 		}
+		loggerContext.updateLoggers();
 	}
 
 	@Override
@@ -217,7 +244,18 @@ public class Log4J2LoggingSystem extends Slf4JLoggingSystem {
 		setLogLevel(loggerName, LEVELS.convertSystemToNative(logLevel));
 	}
 
+	@Override
+	public void setLogLevels(Map<String, LogLevel> levels) {
+		levels.forEach((loggerName, logLevel) -> applyLogLevel(loggerName, LEVELS.convertSystemToNative(logLevel)));
+		getLoggerContext().updateLoggers();
+	}
+
 	private void setLogLevel(String loggerName, Level level) {
+		applyLogLevel(loggerName, level);
+		getLoggerContext().updateLoggers();
+	}
+
+	private void applyLogLevel(String loggerName, Level level) {
 		LoggerConfig logger = getLogger(loggerName);
 		if (level == null) {
 			clearLogLevel(loggerName, logger);
@@ -225,7 +263,6 @@ public class Log4J2LoggingSystem extends Slf4JLoggingSystem {
 		else {
 			setLogLevel(loggerName, logger, level);
 		}
-		getLoggerContext().updateLoggers();
 	}
 
 	private void clearLogLevel(String loggerName, LoggerConfig logger) {
@@ -249,8 +286,13 @@ public class Log4J2LoggingSystem extends Slf4JLoggingSystem {
 
 	@Override
 	public List<LoggerConfiguration> getLoggerConfigurations() {
+		return getLoggerConfigurations(null);
+	}
+
+	@Override
+	public List<LoggerConfiguration> getLoggerConfigurations(String prefix) {
 		List<LoggerConfiguration> result = new ArrayList<>();
-		getAllLoggers().forEach((name, loggerConfig) -> result.add(convertLoggerConfig(name, loggerConfig)));
+		getAllLoggers(prefix).forEach((name, loggerConfig) -> result.add(convertLoggerConfig(name, loggerConfig)));
 		result.sort(CONFIGURATION_COMPARATOR);
 		return result;
 	}
@@ -262,22 +304,40 @@ public class Log4J2LoggingSystem extends Slf4JLoggingSystem {
 	}
 
 	private Map<String, LoggerConfig> getAllLoggers() {
+		return getAllLoggers(null);
+	}
+
+	private Map<String, LoggerConfig> getAllLoggers(String prefix) {
 		Map<String, LoggerConfig> loggers = new LinkedHashMap<>();
 		for (Logger logger : getLoggerContext().getLoggers()) {
-			addLogger(loggers, logger.getName());
+			addLogger(loggers, logger.getName(), prefix);
 		}
-		getLoggerContext().getConfiguration().getLoggers().keySet().forEach((name) -> addLogger(loggers, name));
+		getLoggerContext().getConfiguration().getLoggers().keySet()
+				.forEach((name) -> addLogger(loggers, name, prefix));
+		addLogger(loggers, LogManager.ROOT_LOGGER_NAME, prefix);
 		return loggers;
 	}
 
-	private void addLogger(Map<String, LoggerConfig> loggers, String name) {
+	private void addLogger(Map<String, LoggerConfig> loggers, String name, String prefix) {
 		Configuration configuration = getLoggerContext().getConfiguration();
-		while (name != null) {
+		// Parent names are prefixes of the name, so once one does not match, no further
+		// parent can (other than the root which is added separately)
+		while (name != null && matchesPrefix(name, prefix)) {
 			loggers.computeIfAbsent(name, configuration::getLoggerConfig);
 			name = getSubName(name);
 		}
 	}
 
+	private boolean matchesPrefix(String name, String prefix) {
+		if (!StringUtils.hasLength(prefix)) {
+			return true;
+		}
+		if (!StringUtils.hasLength(name) || LogManager.ROOT_LOGGER_NAME.equals(name)) {
+			return ROOT_LOGGER_NAME.startsWith(prefix);
+		}
+		return name.startsWith(prefix);
+	}
+
 	private String getSubName(String name) {
 		if (!StringUtils.hasLength(name)) {
 			return null;
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.logging.log4j2;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.config.Node;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.layout.AbstractStringLayout;
+import org.apache.logging.log4j.core.util.ProcessIdUtil;
+import org.apache.logging.log4j.util.ReadOnlyStringMap;
+import org.apache.logging.log4j.util.TriConsumer;
+
+import org.springframework.boot.logging.JsonLogWriter;
+import org.springframework.boot.logging.JsonLogWriter.MdcWriter;
+
+/**
+ * Log4j2 {@link Layout} that writes each event as a single line JSON object. Events are
+ * formatted into the {@link StringBuilder} reused by {@link AbstractStringLayout} and
+ * context data is written without being copied.
+ *
+ * @author agent
+ * @since 2.5.0
+ * @see JsonLogWriter
+ */
+@Plugin(name = "StructuredLogLayout", category = Node.CATEGORY, elementType = Layout.ELEMENT_TYPE)
+public final class StructuredLogLayout extends AbstractStringLayout {
+
+	private static final TriConsumer<String, Object, StringBuilder> MDC_ENTRY_WRITER = (key, value,
+			output) -> JsonLogWriter.writeMdcEntry(output, key, value);
+
+	private static final MdcWriter<ReadOnlyStringMap> MDC_WRITER = (contextData, output) -> contextData
+			.forEach(MDC_ENTRY_WRITER, output);
+
+	private final JsonLogWriter writer;
+
+	private StructuredLogLayout(Charset charset, String applicationName) {
+		super(charset);
+		this.writer = new JsonLogWriter(ProcessIdUtil.getProcessId(), applicationName);
+	}
+
+	@Override
+	public String toSerializable(LogEvent event) {
+		StringBuilder output = getStringBuilder();
+		this.writer.write(output, event.getTimeMillis(), event.getLevel().name(), event.getThreadName(),
+				event.getLoggerName(), event.getMessage().getFormattedMessage(),
+				event.getContextData(), MDC_WRITER, getStackTrace(event.getThrown()));
+		output.append(System.lineSeparator());
+		return output.toString();
+	}
+
+	private String getStackTrace(Throwable thrown) {
+		if (thrown == null) {
+			return null;
+		}
+		StringWriter stackTrace = new StringWriter();
+		thrown.printStackTrace(new PrintWriter(stackTrace));
+		return stackTrace.toString();
+	}
+
+	/**
+	 * Factory method used by Log4j2 to create the layout.
+	 * @param charset the charset used to encode events
+	 * @param applicationName the application name to include in each event
+	 * @return a new {@link StructuredLogLayout} instance
+	 */
+	@PluginFactory
+	public static StructuredLogLayout createLayout(@PluginAttribute("charset") Charset charset,
+			@PluginAttribute("applicationName") String applicationName) {
+		return new StructuredLogLayout((charset != null) ? charset : StandardCharsets.UTF_8, applicationName);
+	}
+
+}
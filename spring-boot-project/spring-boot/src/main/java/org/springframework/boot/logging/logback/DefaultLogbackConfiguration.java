@@ -18,16 +18,19 @@ package org.springframework.boot.logging.logback;
 
 import java.nio.charset.Charset;
 
+import ch.qos.logback.classic.AsyncAppender;
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.Appender;
 import ch.qos.logback.core.ConsoleAppender;
+import ch.qos.logback.core.encoder.Encoder;
 import ch.qos.logback.core.rolling.RollingFileAppender;
 import ch.qos.logback.core.rolling.SizeAndTimeBasedRollingPolicy;
 import ch.qos.logback.core.util.FileSize;
 import ch.qos.logback.core.util.OptionHelper;
 
+import org.springframework.boot.logging.JsonLogWriter;
 import org.springframework.boot.logging.LogFile;
 
 /**
@@ -52,9 +55,9 @@ class DefaultLogbackConfiguration {
 	void apply(LogbackConfigurator config) {
 		synchronized (config.getConfigurationLock()) {
 			defaults(config);
-			Appender<ILoggingEvent> consoleAppender = consoleAppender(config);
+			Appender<ILoggingEvent> consoleAppender = async(config, consoleAppender(config));
 			if (this.logFile != null) {
-				Appender<ILoggingEvent> fileAppender = fileAppender(config, this.logFile.toString());
+				Appender<ILoggingEvent> fileAppender = async(config, fileAppender(config, this.logFile.toString()));
 				config.root(Level.INFO, consoleAppender, fileAppender);
 			}
 			else {
@@ -88,28 +91,48 @@ class DefaultLogbackConfiguration {
 
 	private Appender<ILoggingEvent> consoleAppender(LogbackConfigurator config) {
 		ConsoleAppender<ILoggingEvent> appender = new ConsoleAppender<>();
-		PatternLayoutEncoder encoder = new PatternLayoutEncoder();
-		encoder.setPattern(resolve(config, "${CONSOLE_LOG_PATTERN}"));
-		encoder.setCharset(resolveCharset(config, "${CONSOLE_LOG_CHARSET}"));
-		config.start(encoder);
-		appender.setEncoder(encoder);
+		appender.setEncoder(encoder(config, "${CONSOLE_LOG_PATTERN}", "${CONSOLE_LOG_CHARSET}"));
 		config.appender("CONSOLE", appender);
 		return appender;
 	}
 
 	private Appender<ILoggingEvent> fileAppender(LogbackConfigurator config, String logFile) {
 		RollingFileAppender<ILoggingEvent> appender = new RollingFileAppender<>();
-		PatternLayoutEncoder encoder = new PatternLayoutEncoder();
-		encoder.setPattern(resolve(config, "${FILE_LOG_PATTERN}"));
-		encoder.setCharset(resolveCharset(config, "${FILE_LOG_CHARSET}"));
-		appender.setEncoder(encoder);
-		config.start(encoder);
+		appender.setEncoder(encoder(config, "${FILE_LOG_PATTERN}", "${FILE_LOG_CHARSET}"));
 		appender.setFile(logFile);
 		setRollingPolicy(appender, config);
 		config.appender("FILE", appender);
 		return appender;
 	}
 
+	private Encoder<ILoggingEvent> encoder(LogbackConfigurator config, String pattern, String charset) {
+		if (JsonLogWriter.FORMAT.equals(resolve(config, "${LOG_STRUCTURED_FORMAT:-}"))) {
+			StructuredLogEncoder encoder = new StructuredLogEncoder();
+			encoder.setCharset(resolveCharset(config, charset));
+			encoder.setPid(resolve(config, "${PID:-}"));
+			encoder.setApplicationName(resolve(config, "${LOGGED_APPLICATION_NAME:-}"));
+			config.start(encoder);
+			return encoder;
+		}
+		PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+		encoder.setPattern(resolve(config, pattern));
+		encoder.setCharset(resolveCharset(config, charset));
+		config.start(encoder);
+		return encoder;
+	}
+
+	private Appender<ILoggingEvent> async(LogbackConfigurator config, Appender<ILoggingEvent> appender) {
+		if (!resolveBoolean(config, "${LOG_ASYNC_ENABLED:-false}")) {
+			return appender;
+		}
+		AsyncAppender asyncAppender = new AsyncAppender();
+		asyncAppender.setQueueSize(resolveInt(config, "${LOG_ASYNC_QUEUE_SIZE:-1024}"));
+		asyncAppender.setDiscardingThreshold(0);
+		asyncAppender.addAppender(appender);
+		config.appender("ASYNC_" + appender.getName(), asyncAppender);
+		return asyncAppender;
+	}
+
 	private void setRollingPolicy(RollingFileAppender<ILoggingEvent> appender, LogbackConfigurator config) {
 		SizeAndTimeBasedRollingPolicy<ILoggingEvent> rollingPolicy = new SizeAndTimeBasedRollingPolicy<>();
 		rollingPolicy.setContext(config.getContext());
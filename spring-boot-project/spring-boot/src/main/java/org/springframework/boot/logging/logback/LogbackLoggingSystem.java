@@ -234,9 +234,16 @@ public class LogbackLoggingSystem extends Slf4JLoggingSystem {
 
 	@Override
 	public List<LoggerConfiguration> getLoggerConfigurations() {
+		return getLoggerConfigurations(null);
+	}
+
+	@Override
+	public List<LoggerConfiguration> getLoggerConfigurations(String prefix) {
 		List<LoggerConfiguration> result = new ArrayList<>();
 		for (ch.qos.logback.classic.Logger logger : getLoggerContext().getLoggerList()) {
-			result.add(getLoggerConfiguration(logger));
+			if (!StringUtils.hasLength(prefix) || getLoggerName(logger.getName()).startsWith(prefix)) {
+				result.add(getLoggerConfiguration(logger));
+			}
 		}
 		result.sort(CONFIGURATION_COMPARATOR);
 		return result;
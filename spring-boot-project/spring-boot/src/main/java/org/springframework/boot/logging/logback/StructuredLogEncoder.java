@@ -0,0 +1,103 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.logging.logback;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.CoreConstants;
+import ch.qos.logback.core.encoder.EncoderBase;
+
+import org.springframework.boot.logging.JsonLogWriter;
+
+/**
+ * Logback {@link ch.qos.logback.core.encoder.Encoder Encoder} that writes each event as
+ * a single line JSON object. The {@link StringBuilder} used to format events is reused
+ * per thread.
+ *
+ * @author agent
+ * @since 2.5.0
+ * @see JsonLogWriter
+ */
+public class StructuredLogEncoder extends EncoderBase<ILoggingEvent> {
+
+	private static final int INITIAL_BUFFER_SIZE = 256;
+
+	private static final int MAX_REUSED_BUFFER_SIZE = 8192;
+
+	private final ThreadLocal<StringBuilder> buffer = ThreadLocal
+			.withInitial(() -> new StringBuilder(INITIAL_BUFFER_SIZE));
+
+	private Charset charset = StandardCharsets.UTF_8;
+
+	private String pid;
+
+	private String applicationName;
+
+	private JsonLogWriter writer;
+
+	public void setCharset(Charset charset) {
+		this.charset = (charset != null) ? charset : StandardCharsets.UTF_8;
+	}
+
+	public void setPid(String pid) {
+		this.pid = pid;
+	}
+
+	public void setApplicationName(String applicationName) {
+		this.applicationName = applicationName;
+	}
+
+	@Override
+	public void start() {
+		this.writer = new JsonLogWriter(this.pid, this.applicationName);
+		super.start();
+	}
+
+	@Override
+	public byte[] headerBytes() {
+		return null;
+	}
+
+	@Override
+	public byte[] encode(ILoggingEvent event) {
+		StringBuilder output = this.buffer.get();
+		output.setLength(0);
+		this.writer.write(output, event.getTimeStamp(), event.getLevel().toString(), event.getThreadName(),
+				event.getLoggerName(), event.getFormattedMessage(), event.getMDCPropertyMap(),
+				getStackTrace(event.getThrowableProxy()));
+		output.append(CoreConstants.LINE_SEPARATOR);
+		byte[] bytes = output.toString().getBytes(this.charset);
+		if (output.capacity() > MAX_REUSED_BUFFER_SIZE) {
+			this.buffer.set(new StringBuilder(INITIAL_BUFFER_SIZE));
+		}
+		return bytes;
+	}
+
+	private String getStackTrace(IThrowableProxy throwableProxy) {
+		return (throwableProxy != null) ? ThrowableProxyUtil.asString(throwableProxy) : null;
+	}
+
+	@Override
+	public byte[] footerBytes() {
+		return null;
+	}
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.task;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * {@link Executor} that runs each task in a new virtual thread. Virtual threads require
+ * a Java runtime that supports them, as indicated by {@link #isSupported()}.
+ *
+ * @author agent
+ * @since 2.5.0
+ */
+public class VirtualThreadExecutor implements Executor {
+
+	private static final Method OF_VIRTUAL = ReflectionUtils.findMethod(Thread.class, "ofVirtual");
+
+	private static final boolean SUPPORTED = probe();
+
+	private final ThreadFactory threadFactory;
+
+	/**
+	 * Create a new {@link VirtualThreadExecutor} instance.
+	 * @param threadNamePrefix the prefix of the names of the threads that are created
+	 * @throws IllegalStateException if virtual threads are not supported
+	 */
+	public VirtualThreadExecutor(String threadNamePrefix) {
+		Assert.state(isSupported(), "Virtual threads are not supported by the current Java runtime");
+		this.threadFactory = createThreadFactory(threadNamePrefix);
+	}
+
+	private static ThreadFactory createThreadFactory(String threadNamePrefix) {
+		Class<?> builderClass = ClassUtils.resolveClassName("java.lang.Thread$Builder", null);
+		Method name = ReflectionUtils.findMethod(builderClass, "name", String.class, long.class);
+		Method factory = ReflectionUtils.findMethod(builderClass, "factory");
+		Object builder = ReflectionUtils.invokeMethod(OF_VIRTUAL, null);
+		builder = ReflectionUtils.invokeMethod(name, builder, threadNamePrefix, 0L);
+		return (ThreadFactory) ReflectionUtils.invokeMethod(factory, builder);
+	}
+
+	@Override
+	public void execute(Runnable task) {
+		this.threadFactory.newThread(task).start();
+	}
+
+	/**
+	 * Return whether virtual threads are supported by the current Java runtime.
+	 * @return {@code true} if virtual threads are supported
+	 */
+	public static boolean isSupported() {
+		return SUPPORTED;
+	}
+
+	private static boolean probe() {
+		if (OF_VIRTUAL == null) {
+			return false;
+		}
+		try {
+			// Preview releases declare the method but refuse to create a builder
+			ReflectionUtils.invokeMethod(OF_VIRTUAL, null);
+			return true;
+		}
+		catch (Throwable ex) {
+			return false;
+		}
+	}
+
+}
@@ -25,6 +25,8 @@ import java.util.function.Supplier;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.eclipse.jetty.server.Connector;
+import org.eclipse.jetty.server.HttpChannel;
+import org.eclipse.jetty.server.Request;
 import org.eclipse.jetty.server.Server;
 
 import org.springframework.boot.web.server.GracefulShutdownCallback;
@@ -33,7 +35,9 @@ import org.springframework.core.log.LogMessage;
 import org.springframework.util.ReflectionUtils;
 
 /**
- * Handles Jetty graceful shutdown.
+ * Handles Jetty graceful shutdown. Completion of each request is signalled by an
+ * {@link HttpChannel.Listener} registered with each connector so that shutdown finishes
+ * as soon as the last active request does.
  *
  * @author Andy Wilkinson
  */
@@ -41,15 +45,29 @@ final class GracefulShutdown {
 
 	private static final Log logger = LogFactory.getLog(JettyWebServer.class);
 
+	/**
+	 * Safety net to recheck the number of active requests should a completion signal not
+	 * be received.
+	 */
+	private static final long ACTIVE_REQUESTS_CHECK_INTERVAL = 1000;
+
+	private final Object monitor = new Object();
+
 	private final Server server;
 
 	private final Supplier<Integer> activeRequests;
 
 	private volatile boolean shuttingDown = false;
 
+	private volatile boolean aborted = false;
+
 	GracefulShutdown(Server server, Supplier<Integer> activeRequests) {
 		this.server = server;
 		this.activeRequests = activeRequests;
+		HttpChannel.Listener completionListener = new RequestCompletionListener();
+		for (Connector connector : server.getConnectors()) {
+			connector.addBean(completionListener);
+		}
 	}
 
 	void shutDownGracefully(GracefulShutdownCallback callback) {
@@ -96,12 +114,19 @@ final class GracefulShutdown {
 	}
 
 	private void awaitShutdown(GracefulShutdownCallback callback) {
-		while (this.shuttingDown && this.activeRequests.get() > 0) {
-			sleep(100);
+		synchronized (this.monitor) {
+			try {
+				while (!this.aborted && this.activeRequests.get() > 0) {
+					this.monitor.wait(ACTIVE_REQUESTS_CHECK_INTERVAL);
+				}
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
 		}
 		this.shuttingDown = false;
 		long activeRequests = this.activeRequests.get();
-		if (activeRequests == 0) {
+		if (!this.aborted && activeRequests == 0) {
 			logger.info("Graceful shutdown complete");
 			callback.shutdownComplete(GracefulShutdownResult.IDLE);
 		}
@@ -111,17 +136,31 @@ final class GracefulShutdown {
 		}
 	}
 
-	private void sleep(long millis) {
-		try {
-			Thread.sleep(millis);
-		}
-		catch (InterruptedException ex) {
-			Thread.currentThread().interrupt();
+	private void requestCompleted() {
+		if (this.shuttingDown) {
+			synchronized (this.monitor) {
+				this.monitor.notifyAll();
+			}
 		}
 	}
 
 	void abort() {
-		this.shuttingDown = false;
+		synchronized (this.monitor) {
+			this.aborted = true;
+			this.monitor.notifyAll();
+		}
+	}
+
+	/**
+	 * {@link HttpChannel.Listener} that signals the completion of each request.
+	 */
+	private final class RequestCompletionListener implements HttpChannel.Listener {
+
+		@Override
+		public void onComplete(Request request) {
+			requestCompleted();
+		}
+
 	}
 
 }
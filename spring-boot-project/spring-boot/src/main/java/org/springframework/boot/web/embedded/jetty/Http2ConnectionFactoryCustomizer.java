@@ -0,0 +1,52 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.embedded.jetty;
+
+import org.eclipse.jetty.http2.server.AbstractHTTP2ServerConnectionFactory;
+
+import org.springframework.boot.web.server.Http2;
+
+/**
+ * Applies the {@link Http2} tuning settings to a Jetty HTTP/2 connection factory.
+ *
+ * @author agent
+ */
+class Http2ConnectionFactoryCustomizer {
+
+	private final Http2 http2;
+
+	Http2ConnectionFactoryCustomizer(Http2 http2) {
+		this.http2 = http2;
+	}
+
+	<T extends AbstractHTTP2ServerConnectionFactory> T customize(T factory) {
+		if (this.http2 == null) {
+			return factory;
+		}
+		if (this.http2.getMaxConcurrentStreams() != null) {
+			factory.setMaxConcurrentStreams(this.http2.getMaxConcurrentStreams());
+		}
+		if (this.http2.getInitialWindowSize() != null) {
+			factory.setInitialStreamRecvWindow((int) this.http2.getInitialWindowSize().toBytes());
+		}
+		if (this.http2.getHeaderTableSize() != null) {
+			factory.setMaxDynamicTableSize((int) this.http2.getHeaderTableSize().toBytes());
+		}
+		return factory;
+	}
+
+}
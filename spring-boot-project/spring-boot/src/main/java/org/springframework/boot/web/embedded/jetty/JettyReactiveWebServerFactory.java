@@ -201,7 +201,8 @@ public class JettyReactiveWebServerFactory extends AbstractReactiveWebServerFact
 		List<ConnectionFactory> connectionFactories = new ArrayList<>();
 		connectionFactories.add(new HttpConnectionFactory(httpConfiguration));
 		if (getHttp2() != null && getHttp2().isEnabled()) {
-			connectionFactories.add(new HTTP2CServerConnectionFactory(httpConfiguration));
+			connectionFactories.add(new Http2ConnectionFactoryCustomizer(getHttp2())
+					.customize(new HTTP2CServerConnectionFactory(httpConfiguration)));
 		}
 		JettyResourceFactory resourceFactory = getResourceFactory();
 		ServerConnector connector;
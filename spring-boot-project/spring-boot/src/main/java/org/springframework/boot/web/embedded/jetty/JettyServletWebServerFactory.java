@@ -182,7 +182,8 @@ public class JettyServletWebServerFactory extends AbstractServletWebServerFactor
 		List<ConnectionFactory> connectionFactories = new ArrayList<>();
 		connectionFactories.add(new HttpConnectionFactory(httpConfiguration));
 		if (getHttp2() != null && getHttp2().isEnabled()) {
-			connectionFactories.add(new HTTP2CServerConnectionFactory(httpConfiguration));
+			connectionFactories.add(new Http2ConnectionFactoryCustomizer(getHttp2())
+					.customize(new HTTP2CServerConnectionFactory(httpConfiguration)));
 		}
 		ServerConnector connector = new ServerConnector(server, this.acceptors, this.selectors,
 				connectionFactories.toArray(new ConnectionFactory[0]));
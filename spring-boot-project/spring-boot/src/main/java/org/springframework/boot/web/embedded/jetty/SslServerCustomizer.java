@@ -137,7 +137,8 @@ class SslServerCustomizer implements JettyServerCustomizer {
 	private ServerConnector createHttp2ServerConnector(Server server, HttpConfiguration config,
 			SslContextFactory.Server sslContextFactory) {
 		HttpConnectionFactory http = new HttpConnectionFactory(config);
-		HTTP2ServerConnectionFactory h2 = new HTTP2ServerConnectionFactory(config);
+		HTTP2ServerConnectionFactory h2 = new Http2ConnectionFactoryCustomizer(this.http2)
+				.customize(new HTTP2ServerConnectionFactory(config));
 		ALPNServerConnectionFactory alpn = createAlpnServerConnectionFactory();
 		sslContextFactory.setCipherComparator(HTTP2Cipher.COMPARATOR);
 		if (isConscryptPresent()) {
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.embedded.netty;
+
+import reactor.netty.http.Http2SettingsSpec;
+import reactor.netty.http.server.HttpServer;
+
+import org.springframework.boot.web.server.Http2;
+
+/**
+ * Configure the HTTP/2 settings frame advertised by a Reactor Netty server.
+ *
+ * @author agent
+ */
+final class Http2SettingsCustomizer implements NettyServerCustomizer {
+
+	private final Http2 http2;
+
+	Http2SettingsCustomizer(Http2 http2) {
+		this.http2 = http2;
+	}
+
+	@Override
+	public HttpServer apply(HttpServer server) {
+		return server.http2Settings(this::customize);
+	}
+
+	private void customize(Http2SettingsSpec.Builder settings) {
+		if (this.http2.getMaxConcurrentStreams() != null) {
+			settings.maxConcurrentStreams(this.http2.getMaxConcurrentStreams());
+		}
+		if (this.http2.getInitialWindowSize() != null) {
+			settings.initialWindowSize((int) this.http2.getInitialWindowSize().toBytes());
+		}
+		if (this.http2.getHeaderTableSize() != null) {
+			settings.headerTableSize(this.http2.getHeaderTableSize().toBytes());
+		}
+		if (this.http2.getMaxHeaderListSize() != null) {
+			settings.maxHeaderListSize(this.http2.getMaxHeaderListSize().toBytes());
+		}
+	}
+
+}
@@ -172,6 +172,10 @@ public class NettyReactiveWebServerFactory extends AbstractReactiveWebServerFact
 			CompressionCustomizer compressionCustomizer = new CompressionCustomizer(getCompression());
 			server = compressionCustomizer.apply(server);
 		}
+		if (getHttp2() != null && getHttp2().isEnabled()) {
+			Http2SettingsCustomizer http2SettingsCustomizer = new Http2SettingsCustomizer(getHttp2());
+			server = http2SettingsCustomizer.apply(server);
+		}
 		server = server.protocol(listProtocols()).forwarded(this.useForwardHeaders);
 		return applyCustomizers(server);
 	}
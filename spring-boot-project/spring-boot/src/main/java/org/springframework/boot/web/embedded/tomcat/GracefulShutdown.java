@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,16 +16,22 @@
 
 package org.springframework.boot.web.embedded.tomcat;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import javax.servlet.ServletException;
+
 import org.apache.catalina.Container;
 import org.apache.catalina.Service;
 import org.apache.catalina.connector.Connector;
+import org.apache.catalina.connector.Request;
+import org.apache.catalina.connector.Response;
 import org.apache.catalina.core.StandardContext;
 import org.apache.catalina.core.StandardWrapper;
 import org.apache.catalina.startup.Tomcat;
+import org.apache.catalina.valves.ValveBase;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
@@ -33,7 +39,9 @@ import org.springframework.boot.web.server.GracefulShutdownCallback;
 import org.springframework.boot.web.server.GracefulShutdownResult;
 
 /**
- * Handles Tomcat graceful shutdown.
+ * Handles Tomcat graceful shutdown. Completion of each request is signalled by a valve in
+ * the engine's pipeline so that shutdown finishes as soon as the last active request
+ * does.
  *
  * @author Andy Wilkinson
  */
@@ -41,42 +49,64 @@ final class GracefulShutdown {
 
 	private static final Log logger = LogFactory.getLog(GracefulShutdown.class);
 
+	/**
+	 * Asynchronous requests complete outside of the engine's pipeline, so their
+	 * completion is checked periodically.
+	 */
+	private static final long ASYNC_REQUEST_CHECK_INTERVAL = 50;
+
+	private final Object monitor = new Object();
+
 	private final Tomcat tomcat;
 
+	private volatile boolean shuttingDown = false;
+
 	private volatile boolean aborted = false;
 
 	GracefulShutdown(Tomcat tomcat) {
 		this.tomcat = tomcat;
+		tomcat.getEngine().getPipeline().addValve(new RequestCompletionValve());
 	}
 
 	void shutDownGracefully(GracefulShutdownCallback callback) {
 		logger.info("Commencing graceful shutdown. Waiting for active requests to complete");
+		this.shuttingDown = true;
 		new Thread(() -> doShutdown(callback), "tomcat-shutdown").start();
 	}
 
 	private void doShutdown(GracefulShutdownCallback callback) {
 		List<Connector> connectors = getConnectors();
 		connectors.forEach(this::close);
+		GracefulShutdownResult result = awaitInactivity();
+		this.shuttingDown = false;
+		if (result == GracefulShutdownResult.IDLE) {
+			logger.info("Graceful shutdown complete");
+		}
+		else {
+			logger.info("Graceful shutdown aborted with one or more requests still active");
+		}
+		callback.shutdownComplete(result);
+	}
+
+	private GracefulShutdownResult awaitInactivity() {
 		try {
-			for (Container host : this.tomcat.getEngine().findChildren()) {
-				for (Container context : host.findChildren()) {
-					while (isActive(context)) {
+			synchronized (this.monitor) {
+				for (Container host : this.tomcat.getEngine().findChildren()) {
+					for (Container context : host.findChildren()) {
+						while (!this.aborted && isActive(context)) {
+							this.monitor.wait(hasAsyncRequestsInProgress(context) ? ASYNC_REQUEST_CHECK_INTERVAL : 0);
+						}
 						if (this.aborted) {
-							logger.info("Graceful shutdown aborted with one or more requests still active");
-							callback.shutdownComplete(GracefulShutdownResult.REQUESTS_ACTIVE);
-							return;
+							return GracefulShutdownResult.REQUESTS_ACTIVE;
 						}
-						Thread.sleep(50);
 					}
 				}
 			}
-
 		}
 		catch (InterruptedException ex) {
 			Thread.currentThread().interrupt();
 		}
-		logger.info("Graceful shutdown complete");
-		callback.shutdownComplete(GracefulShutdownResult.IDLE);
+		return GracefulShutdownResult.IDLE;
 	}
 
 	private List<Connector> getConnectors() {
@@ -94,7 +124,7 @@ final class GracefulShutdown {
 
 	private boolean isActive(Container context) {
 		try {
-			if (((StandardContext) context).getInProgressAsyncCount() > 0) {
+			if (hasAsyncRequestsInProgress(context)) {
 				return true;
 			}
 			for (Container wrapper : context.findChildren()) {
@@ -109,8 +139,44 @@ final class GracefulShutdown {
 		}
 	}
 
+	private boolean hasAsyncRequestsInProgress(Container context) {
+		return ((StandardContext) context).getInProgressAsyncCount() > 0;
+	}
+
+	private void requestCompleted() {
+		if (this.shuttingDown) {
+			synchronized (this.monitor) {
+				this.monitor.notifyAll();
+			}
+		}
+	}
+
 	void abort() {
-		this.aborted = true;
+		synchronized (this.monitor) {
+			this.aborted = true;
+			this.monitor.notifyAll();
+		}
+	}
+
+	/**
+	 * {@link ValveBase Valve} that signals the completion of each request.
+	 */
+	private final class RequestCompletionValve extends ValveBase {
+
+		private RequestCompletionValve() {
+			super(true);
+		}
+
+		@Override
+		public void invoke(Request request, Response response) throws IOException, ServletException {
+			try {
+				getNext().invoke(request, response);
+			}
+			finally {
+				requestCompleted();
+			}
+		}
+
 	}
 
 }
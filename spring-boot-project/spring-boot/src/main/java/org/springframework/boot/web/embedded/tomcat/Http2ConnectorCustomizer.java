@@ -0,0 +1,63 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.embedded.tomcat;
+
+import org.apache.catalina.connector.Connector;
+import org.apache.coyote.UpgradeProtocol;
+import org.apache.coyote.http2.Http2Protocol;
+
+import org.springframework.boot.web.server.Http2;
+
+/**
+ * {@link TomcatConnectorCustomizer} that applies the {@link Http2} tuning settings to the
+ * HTTP/2 upgrade protocol of the given Connector.
+ *
+ * @author agent
+ */
+class Http2ConnectorCustomizer implements TomcatConnectorCustomizer {
+
+	private final Http2 http2;
+
+	Http2ConnectorCustomizer(Http2 http2) {
+		this.http2 = http2;
+	}
+
+	@Override
+	public void customize(Connector connector) {
+		if (this.http2 != null && this.http2.isEnabled()) {
+			for (UpgradeProtocol upgradeProtocol : connector.findUpgradeProtocols()) {
+				if (upgradeProtocol instanceof Http2Protocol) {
+					customize((Http2Protocol) upgradeProtocol);
+				}
+			}
+		}
+	}
+
+	private void customize(Http2Protocol protocol) {
+		Http2 http2 = this.http2;
+		if (http2.getMaxConcurrentStreams() != null) {
+			protocol.setMaxConcurrentStreams(http2.getMaxConcurrentStreams());
+		}
+		if (http2.getInitialWindowSize() != null) {
+			protocol.setInitialWindowSize((int) http2.getInitialWindowSize().toBytes());
+		}
+		if (http2.getMaxHeaderListSize() != null) {
+			protocol.setMaxHeaderSize((int) http2.getMaxHeaderListSize().toBytes());
+		}
+	}
+
+}
@@ -330,6 +330,8 @@ public class TomcatServletWebServerFactory extends AbstractServletWebServerFacto
 		}
 		TomcatConnectorCustomizer compression = new CompressionConnectorCustomizer(getCompression());
 		compression.customize(connector);
+		TomcatConnectorCustomizer http2 = new Http2ConnectorCustomizer(getHttp2());
+		http2.customize(connector);
 		for (TomcatConnectorCustomizer customizer : this.tomcatConnectorCustomizers) {
 			customizer.customize(connector);
 		}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,8 @@
 
 package org.springframework.boot.web.embedded.undertow;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
@@ -58,7 +60,7 @@ class FileSessionPersistence implements SessionPersistenceManager {
 	}
 
 	private void save(Map<String, PersistentSession> sessionData, File file) throws IOException {
-		try (ObjectOutputStream stream = new ObjectOutputStream(new FileOutputStream(file))) {
+		try (ObjectOutputStream stream = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
 			save(sessionData, stream);
 		}
 	}
@@ -85,7 +87,8 @@ class FileSessionPersistence implements SessionPersistenceManager {
 
 	private Map<String, PersistentSession> load(File file, ClassLoader classLoader)
 			throws IOException, ClassNotFoundException {
-		try (ObjectInputStream stream = new ConfigurableObjectInputStream(new FileInputStream(file), classLoader)) {
+		try (ObjectInputStream stream = new ConfigurableObjectInputStream(
+				new BufferedInputStream(new FileInputStream(file)), classLoader)) {
 			return load(stream);
 		}
 	}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.embedded.undertow;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Index of the names of the entries in a jar file. Used to avoid opening a connection to
+ * look up a resource that the jar does not contain.
+ *
+ * @author agent
+ */
+final class JarEntryIndex {
+
+	private final Set<String> names;
+
+	private JarEntryIndex(Set<String> names) {
+		this.names = names;
+	}
+
+	/**
+	 * Return whether the jar contains a file or directory entry with the given name.
+	 * @param name the name of the entry, without a leading slash
+	 * @return {@code true} if the entry exists
+	 */
+	boolean contains(String name) {
+		return this.names.contains(name) || this.names.contains(name + "/");
+	}
+
+	/**
+	 * Create a new index of all of the entries in the given jar file.
+	 * @param jarFile the jar file
+	 * @return the index or {@code null} if the jar file could not be read
+	 */
+	static JarEntryIndex of(File jarFile) {
+		try (JarFile jar = new JarFile(jarFile)) {
+			return new JarEntryIndex(getNames(jar, ""));
+		}
+		catch (IOException ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * Create a new index of the entries of the jar with the given URL whose names start
+	 * with the given prefix.
+	 * @param jarUrl the URL of the jar
+	 * @param prefix the prefix of the names of the entries to index
+	 * @return the index or {@code null} if the jar could not be read
+	 */
+	static JarEntryIndex of(URL jarUrl, String prefix) {
+		try {
+			URLConnection connection = jarUrl.openConnection();
+			if (!(connection instanceof JarURLConnection)) {
+				return null;
+			}
+			// The jar file may be shared with other connections so it is not closed
+			return new JarEntryIndex(getNames(((JarURLConnection) connection).getJarFile(), prefix));
+		}
+		catch (IOException ex) {
+			return null;
+		}
+	}
+
+	private static Set<String> getNames(JarFile jarFile, String prefix) {
+		Set<String> names = new HashSet<>();
+		Enumeration<JarEntry> entries = jarFile.entries();
+		while (entries.hasMoreElements()) {
+			String name = entries.nextElement().getName();
+			if (name.startsWith(prefix)) {
+				names.add(name);
+			}
+		}
+		return names;
+	}
+
+}
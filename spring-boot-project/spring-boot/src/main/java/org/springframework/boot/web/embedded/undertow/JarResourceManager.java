@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -38,16 +38,23 @@ class JarResourceManager implements ResourceManager {
 
 	private final String jarPath;
 
+	private final JarEntryIndex index;
+
 	JarResourceManager(File jarFile) {
 		this(jarFile.getAbsolutePath());
 	}
 
 	JarResourceManager(String jarPath) {
 		this.jarPath = jarPath;
+		this.index = JarEntryIndex.of(new File(jarPath));
 	}
 
 	@Override
 	public Resource getResource(String path) throws IOException {
+		if (this.index != null && StringUtils.hasText(path) && !"/".equals(path)
+				&& !this.index.contains(path.startsWith("/") ? path.substring(1) : path)) {
+			return null;
+		}
 		URL url = new URL("jar:file:" + this.jarPath + "!" + (path.startsWith("/") ? path : "/" + path));
 		URLResource resource = new URLResource(url, path);
 		if (StringUtils.hasText(path) && !"/".equals(path) && resource.getContentLength() < 0) {
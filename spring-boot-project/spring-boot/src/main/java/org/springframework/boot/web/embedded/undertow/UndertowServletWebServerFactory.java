@@ -515,10 +515,18 @@ public class UndertowServletWebServerFactory extends AbstractServletWebServerFac
 	 */
 	private static final class MetaInfResourcesResourceManager implements ResourceManager {
 
+		private static final String META_INF_RESOURCES = "META-INF/resources";
+
 		private final List<URL> metaInfResourceJarUrls;
 
+		private final List<JarEntryIndex> metaInfResourceJarIndexes;
+
 		private MetaInfResourcesResourceManager(List<URL> metaInfResourceJarUrls) {
 			this.metaInfResourceJarUrls = metaInfResourceJarUrls;
+			this.metaInfResourceJarIndexes = new ArrayList<>(metaInfResourceJarUrls.size());
+			for (URL url : metaInfResourceJarUrls) {
+				this.metaInfResourceJarIndexes.add(JarEntryIndex.of(url, META_INF_RESOURCES + "/"));
+			}
 		}
 
 		@Override
@@ -527,10 +535,14 @@ public class UndertowServletWebServerFactory extends AbstractServletWebServerFac
 
 		@Override
 		public Resource getResource(String path) {
-			for (URL url : this.metaInfResourceJarUrls) {
-				URLResource resource = getMetaInfResource(url, path);
-				if (resource != null) {
-					return resource;
+			String resourcePath = ENCODED_SLASH.matcher(path).replaceAll("/");
+			for (int i = 0; i < this.metaInfResourceJarUrls.size(); i++) {
+				JarEntryIndex index = this.metaInfResourceJarIndexes.get(i);
+				if (index == null || index.contains(META_INF_RESOURCES + resourcePath)) {
+					URLResource resource = getMetaInfResource(this.metaInfResourceJarUrls.get(i), resourcePath, path);
+					if (resource != null) {
+						return resource;
+					}
 				}
 			}
 			return null;
@@ -550,10 +562,10 @@ public class UndertowServletWebServerFactory extends AbstractServletWebServerFac
 
 		}
 
-		private URLResource getMetaInfResource(URL resourceJar, String path) {
+		private URLResource getMetaInfResource(URL resourceJar, String resourcePath, String path) {
 			try {
-				String urlPath = URLEncoder.encode(ENCODED_SLASH.matcher(path).replaceAll("/"), "UTF-8");
-				URL resourceUrl = new URL(resourceJar + "META-INF/resources" + urlPath);
+				String urlPath = URLEncoder.encode(resourcePath, "UTF-8");
+				URL resourceUrl = new URL(resourceJar + META_INF_RESOURCES + urlPath);
 				URLResource resource = new URLResource(resourceUrl, path);
 				if (resource.getContentLength() < 0) {
 					return null;
@@ -161,6 +161,7 @@ class UndertowWebServerFactoryDelegate {
 		Http2 http2 = factory.getHttp2();
 		if (http2 != null) {
 			builder.setServerOption(UndertowOptions.ENABLE_HTTP2, http2.isEnabled());
+			customizeHttp2Settings(builder, http2);
 		}
 		if (ssl != null && ssl.isEnabled()) {
 			new SslBuilderCustomizer(factory.getPort(), address, ssl, factory.getSslStoreProvider()).customize(builder);
@@ -175,6 +176,25 @@ class UndertowWebServerFactoryDelegate {
 		return builder;
 	}
 
+	private void customizeHttp2Settings(Builder builder, Http2 http2) {
+		if (http2.getMaxConcurrentStreams() != null) {
+			builder.setServerOption(UndertowOptions.HTTP2_SETTINGS_MAX_CONCURRENT_STREAMS,
+					http2.getMaxConcurrentStreams());
+		}
+		if (http2.getInitialWindowSize() != null) {
+			builder.setServerOption(UndertowOptions.HTTP2_SETTINGS_INITIAL_WINDOW_SIZE,
+					(int) http2.getInitialWindowSize().toBytes());
+		}
+		if (http2.getHeaderTableSize() != null) {
+			builder.setServerOption(UndertowOptions.HTTP2_SETTINGS_HEADER_TABLE_SIZE,
+					(int) http2.getHeaderTableSize().toBytes());
+		}
+		if (http2.getMaxHeaderListSize() != null) {
+			builder.setServerOption(UndertowOptions.HTTP2_SETTINGS_MAX_HEADER_LIST_SIZE,
+					(int) http2.getMaxHeaderListSize().toBytes());
+		}
+	}
+
 	List<HttpHandlerFactory> createHttpHandlerFactories(AbstractConfigurableWebServerFactory webServerFactory,
 			HttpHandlerFactory... initialHttpHandlerFactories) {
 		List<HttpHandlerFactory> factories = createHttpHandlerFactories(webServerFactory.getCompression(),
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,8 @@
 
 package org.springframework.boot.web.server;
 
+import org.springframework.util.unit.DataSize;
+
 /**
  * Simple server-independent abstraction for HTTP/2 configuration.
  *
@@ -26,6 +28,14 @@ public class Http2 {
 
 	private boolean enabled = false;
 
+	private Integer maxConcurrentStreams;
+
+	private DataSize initialWindowSize;
+
+	private DataSize headerTableSize;
+
+	private DataSize maxHeaderListSize;
+
 	/**
 	 * Return whether to enable HTTP/2 support, if the current environment supports it.
 	 * @return {@code true} to enable HTTP/2 support
@@ -38,4 +48,61 @@ public class Http2 {
 		this.enabled = enabled;
 	}
 
+	/**
+	 * Return the maximum number of concurrent streams that a client may open on a single
+	 * connection. When {@code null}, the server's default is used.
+	 * @return the maximum number of concurrent streams per connection
+	 * @since 2.5.0
+	 */
+	public Integer getMaxConcurrentStreams() {
+		return this.maxConcurrentStreams;
+	}
+
+	public void setMaxConcurrentStreams(Integer maxConcurrentStreams) {
+		this.maxConcurrentStreams = maxConcurrentStreams;
+	}
+
+	/**
+	 * Return the initial flow-control window size advertised for each stream. When
+	 * {@code null}, the server's default is used.
+	 * @return the initial stream window size
+	 * @since 2.5.0
+	 */
+	public DataSize getInitialWindowSize() {
+		return this.initialWindowSize;
+	}
+
+	public void setInitialWindowSize(DataSize initialWindowSize) {
+		this.initialWindowSize = initialWindowSize;
+	}
+
+	/**
+	 * Return the maximum size of the HPACK dynamic header table used to decode request
+	 * headers. When {@code null}, the server's default is used. Not supported by Tomcat.
+	 * @return the header table size
+	 * @since 2.5.0
+	 */
+	public DataSize getHeaderTableSize() {
+		return this.headerTableSize;
+	}
+
+	public void setHeaderTableSize(DataSize headerTableSize) {
+		this.headerTableSize = headerTableSize;
+	}
+
+	/**
+	 * Return the maximum size of the request header list that the server is prepared to
+	 * accept. When {@code null}, the server's default is used. Not supported by Jetty
+	 * which uses its HTTP request header size instead.
+	 * @return the maximum header list size
+	 * @since 2.5.0
+	 */
+	public DataSize getMaxHeaderListSize() {
+		return this.maxHeaderListSize;
+	}
+
+	public void setMaxHeaderListSize(DataSize maxHeaderListSize) {
+		this.maxHeaderListSize = maxHeaderListSize;
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -52,6 +52,10 @@ public abstract class AbstractLoggingSystemTests {
 	void clear() {
 		System.clearProperty(LoggingSystemProperties.LOG_FILE);
 		System.clearProperty(LoggingSystemProperties.PID_KEY);
+		System.clearProperty(LoggingSystemProperties.ASYNC_ENABLED);
+		System.clearProperty(LoggingSystemProperties.ASYNC_QUEUE_SIZE);
+		System.clearProperty(LoggingSystemProperties.STRUCTURED_FORMAT);
+		System.clearProperty(LoggingSystemProperties.APPLICATION_NAME);
 	}
 
 	protected final String[] getSpringConfigLocations(AbstractLoggingSystem system) {
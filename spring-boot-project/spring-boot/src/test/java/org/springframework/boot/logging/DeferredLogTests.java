@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -184,4 +184,21 @@ class DeferredLogTests {
 		verify(this.log).info("Message2", null);
 	}
 
+	@Test
+	void discardsLinesOverCapacityAndReportsOnReplay() {
+		Lines lines = new Lines(2);
+		DeferredLog deferredLog = new DeferredLog(() -> this.log, lines);
+		deferredLog.info("1");
+		deferredLog.info("2");
+		deferredLog.info("3");
+		assertThat(lines).hasSize(2);
+		assertThat(lines.getDiscarded()).isEqualTo(1);
+		deferredLog.replayTo(this.log);
+		verify(this.log).info("1", null);
+		verify(this.log).info("2", null);
+		verify(this.log).warn("1 deferred log messages were discarded as the maximum of 2 was reached");
+		verifyNoMoreInteractions(this.log);
+		assertThat(lines.getDiscarded()).isEqualTo(0);
+	}
+
 }
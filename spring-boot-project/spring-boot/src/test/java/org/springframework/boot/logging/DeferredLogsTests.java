@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,12 +16,22 @@
 
 package org.springframework.boot.logging;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
 import org.apache.commons.logging.Log;
 import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
@@ -57,4 +67,28 @@ class DeferredLogsTests {
 		ordered.verify(log2).info("f", null);
 	}
 
+	@Test
+	void switchOverAllWhileLoggingConcurrentlyDoesNotLoseLines() throws Exception {
+		Log log = mock(Log.class);
+		DeferredLogs loggers = new DeferredLogs();
+		int threads = 4;
+		int linesPerThread = 1000;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch started = new CountDownLatch(threads);
+		for (int i = 0; i < threads; i++) {
+			Log deferredLog = loggers.getLog(log);
+			executor.execute(() -> {
+				started.countDown();
+				for (int line = 0; line < linesPerThread; line++) {
+					deferredLog.info(line);
+				}
+			});
+		}
+		started.await();
+		loggers.switchOverAll();
+		executor.shutdown();
+		assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+		verify(log, times(threads * linesPerThread)).info(any(), isNull());
+	}
+
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.logging;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link JsonLogWriter}.
+ *
+ * @author agent
+ */
+class JsonLogWriterTests {
+
+	private static final long TIMESTAMP = 1609459200123L;
+
+	@Test
+	void writeWritesEvent() {
+		JsonLogWriter writer = new JsonLogWriter("1234", "test-app");
+		assertThat(write(writer, "Hello", null)).isEqualTo("{\"timestamp\":\"2021-01-01T00:00:00.123Z\","
+				+ "\"level\":\"INFO\",\"thread\":\"main\",\"logger\":\"com.example.Test\",\"message\":\"Hello\","
+				+ "\"pid\":\"1234\",\"application\":\"test-app\"}");
+	}
+
+	@Test
+	void writeWhenNoApplicationFieldsOmitsThem() {
+		JsonLogWriter writer = new JsonLogWriter(" ", null);
+		assertThat(write(writer, "Hello", null)).doesNotContain("pid", "application");
+	}
+
+	@Test
+	void writeEscapesMessage() {
+		JsonLogWriter writer = new JsonLogWriter(null, null);
+		assertThat(write(writer, "a\"b\\c\nd\re\tf\u0001", null))
+				.contains("\"message\":\"a\\\"b\\\\c\\nd\\re\\tf\\u0001\"");
+	}
+
+	@Test
+	void writeIncludesMdcAndStackTrace() {
+		JsonLogWriter writer = new JsonLogWriter(null, null);
+		StringBuilder output = new StringBuilder();
+		writer.write(output, TIMESTAMP, "ERROR", "main", "com.example.Test", "Failed",
+				Collections.singletonMap("requestId", "42"), "java.lang.RuntimeException\n\tat Test");
+		assertThat(output.toString()).endsWith(
+				",\"mdc\":{\"requestId\":\"42\"},\"stackTrace\":\"java.lang.RuntimeException\\n\\tat Test\"}");
+	}
+
+	@Test
+	void writeNestsMdcSoThatItCannotClashWithEventFields() {
+		JsonLogWriter writer = new JsonLogWriter(null, null);
+		Map<String, String> mdc = new LinkedHashMap<>();
+		mdc.put("message", "from mdc");
+		mdc.put("level", "TRACE");
+		StringBuilder output = new StringBuilder();
+		writer.write(output, TIMESTAMP, "INFO", "main", "test", "Hello", mdc, null);
+		assertThat(output.toString()).contains("\"level\":\"INFO\"", "\"message\":\"Hello\"")
+				.endsWith(",\"mdc\":{\"message\":\"from mdc\",\"level\":\"TRACE\"}}");
+	}
+
+	@Test
+	void writeWhenMdcIsEmptyOmitsIt() {
+		JsonLogWriter writer = new JsonLogWriter(null, null);
+		StringBuilder output = new StringBuilder();
+		writer.write(output, TIMESTAMP, "INFO", "main", "test", "Hello", Collections.emptyMap(), null);
+		assertThat(output.toString()).doesNotContain("mdc").endsWith("\"message\":\"Hello\"}");
+	}
+
+	@Test
+	void writeWithMdcWriterWritesEntriesWithoutCopying() {
+		JsonLogWriter writer = new JsonLogWriter(null, null);
+		StringBuilder output = new StringBuilder();
+		writer.write(output, TIMESTAMP, "INFO", "main", "test", "Hello", new String[] { "a", "1", "b", "2" },
+				(entries, out) -> {
+					for (int i = 0; i < entries.length; i += 2) {
+						JsonLogWriter.writeMdcEntry(out, entries[i], entries[i + 1]);
+					}
+				}, null);
+		assertThat(output.toString()).endsWith(",\"mdc\":{\"a\":\"1\",\"b\":\"2\"}}");
+	}
+
+	@Test
+	void writeReusesCachedSecondsAndPadsMillis() {
+		JsonLogWriter writer = new JsonLogWriter(null, null);
+		StringBuilder output = new StringBuilder();
+		writer.write(output, TIMESTAMP, "INFO", "main", "test", "a", null, null);
+		output.setLength(0);
+		writer.write(output, TIMESTAMP - 118, "INFO", "main", "test", "b", null, null);
+		assertThat(output.toString()).startsWith("{\"timestamp\":\"2021-01-01T00:00:00.005Z\"");
+		output.setLength(0);
+		writer.write(output, TIMESTAMP + 1000, "INFO", "main", "test", "c", null, null);
+		assertThat(output.toString()).startsWith("{\"timestamp\":\"2021-01-01T00:00:01.123Z\"");
+	}
+
+	private String write(JsonLogWriter writer, String message, String stackTrace) {
+		StringBuilder output = new StringBuilder();
+		writer.write(output, TIMESTAMP, "INFO", "main", "com.example.Test", message, null, stackTrace);
+		return output.toString();
+	}
+
+}
@@ -31,7 +31,9 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.ThreadContext;
 import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.AsyncAppender;
 import org.apache.logging.log4j.core.config.Configuration;
 import org.apache.logging.log4j.core.config.LoggerConfig;
 import org.apache.logging.log4j.core.config.Reconfigurable;
@@ -192,6 +194,39 @@ class Log4J2LoggingSystemTests extends AbstractLoggingSystemTests {
 		assertIsPresent("org.springframework.boot.logging.log4j2.Log4J2LoggingSystemTests$Nested", loggers, null);
 	}
 
+	@Test
+	void getLoggingConfigurationsWithPrefixShouldReturnMatchingLoggers() {
+		LogManager.getLogger("org.springframework.boot.logging.log4j2.Log4J2LoggingSystemTests$Nested");
+		this.loggingSystem.beforeInitialize();
+		this.loggingSystem.initialize(null, null, null);
+		this.loggingSystem.setLogLevel(getClass().getName(), LogLevel.DEBUG);
+		String prefix = "org.springframework.boot.logging.log4j2";
+		List<LoggerConfiguration> configurations = this.loggingSystem.getLoggerConfigurations(prefix);
+		assertThat(configurations).extracting(LoggerConfiguration::getName)
+				.allMatch((name) -> name.startsWith(prefix)).contains(prefix, getClass().getName(),
+						"org.springframework.boot.logging.log4j2.Log4J2LoggingSystemTests$Nested");
+		assertThat(this.loggingSystem.getLoggerConfigurations("ROOT")).extracting(LoggerConfiguration::getName)
+				.containsExactly(LoggingSystem.ROOT_LOGGER_NAME);
+	}
+
+	@Test
+	void setLogLevelsShouldSetLevelOfEachLogger() {
+		this.loggingSystem.beforeInitialize();
+		this.loggingSystem.initialize(null, null, null);
+		Map<String, LogLevel> levels = new LinkedHashMap<>();
+		levels.put("com.example.a", LogLevel.DEBUG);
+		levels.put("com.example.b", LogLevel.WARN);
+		this.loggingSystem.setLogLevels(levels);
+		assertThat(this.loggingSystem.getLoggerConfiguration("com.example.a"))
+				.isEqualTo(new LoggerConfiguration("com.example.a", LogLevel.DEBUG, LogLevel.DEBUG));
+		assertThat(this.loggingSystem.getLoggerConfiguration("com.example.b"))
+				.isEqualTo(new LoggerConfiguration("com.example.b", LogLevel.WARN, LogLevel.WARN));
+		assertThat(LogManager.getLogger("com.example.a").isDebugEnabled()).isTrue();
+		levels.put("com.example.a", null);
+		this.loggingSystem.setLogLevels(levels);
+		assertThat(LogManager.getLogger("com.example.a").isDebugEnabled()).isFalse();
+	}
+
 	private void assertIsPresent(String loggerName, Map<String, LogLevel> loggers, LogLevel logLevel) {
 		assertThat(loggers.containsKey(loggerName)).isTrue();
 		assertThat(loggers.get(loggerName)).isEqualTo(logLevel);
@@ -320,6 +355,37 @@ class Log4J2LoggingSystemTests extends AbstractLoggingSystemTests {
 		}
 	}
 
+	@Test
+	void asyncAppendersWhenAsyncEnabled() {
+		System.setProperty(LoggingSystemProperties.ASYNC_ENABLED, "true");
+		System.setProperty(LoggingSystemProperties.ASYNC_QUEUE_SIZE, "64");
+		this.loggingSystem.beforeInitialize();
+		this.loggingSystem.loadDefaults(null, null);
+		LoggerConfig rootLogger = this.loggingSystem.getConfiguration().getRootLogger();
+		assertThat(rootLogger.getAppenders()).containsOnlyKeys("AsyncConsole");
+		AsyncAppender asyncAppender = (AsyncAppender) rootLogger.getAppenders().get("AsyncConsole");
+		assertThat(asyncAppender.getQueueCapacity()).isEqualTo(64);
+		assertThat(asyncAppender.getAppenderRefStrings()).containsExactly("Console");
+	}
+
+	@Test
+	void structuredJsonFormat(CapturedOutput output) {
+		System.setProperty(LoggingSystemProperties.STRUCTURED_FORMAT, "json");
+		System.setProperty(LoggingSystemProperties.APPLICATION_NAME, "test-app");
+		this.loggingSystem.beforeInitialize();
+		this.loggingSystem.initialize(null, null, null);
+		ThreadContext.put("requestId", "1234");
+		try {
+			this.logger.info("Hello \"world\"");
+		}
+		finally {
+			ThreadContext.remove("requestId");
+		}
+		assertThat(output).contains("{\"timestamp\":\"", "\"level\":\"INFO\"",
+				"\"logger\":\"" + getClass().getName() + "\"", "\"message\":\"Hello \\\"world\\\"\"",
+				"\"application\":\"test-app\"", "\"mdc\":{\"requestId\":\"1234\"}");
+	}
+
 	@Test
 	void initializationIsOnlyPerformedOnceUntilCleanedUp() {
 		LoggerContext loggerContext = (LoggerContext) LogManager.getContext(false);
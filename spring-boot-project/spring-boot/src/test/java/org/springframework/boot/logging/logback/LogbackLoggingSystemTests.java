@@ -30,6 +30,7 @@ import java.util.Set;
 import java.util.logging.Handler;
 import java.util.logging.LogManager;
 
+import ch.qos.logback.classic.AsyncAppender;
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.LoggerContext;
@@ -43,6 +44,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.slf4j.ILoggerFactory;
+import org.slf4j.MDC;
 import org.slf4j.bridge.SLF4JBridgeHandler;
 import org.slf4j.impl.StaticLoggerBinder;
 
@@ -220,6 +222,19 @@ class LogbackLoggingSystemTests extends AbstractLoggingSystemTests {
 		assertThat(configurations.get(0).getName()).isEqualTo(LoggingSystem.ROOT_LOGGER_NAME);
 	}
 
+	@Test
+	void getLoggingConfigurationsWithPrefix() {
+		this.loggingSystem.beforeInitialize();
+		initialize(this.initializationContext, null, null);
+		this.loggingSystem.setLogLevel("com.example.a", LogLevel.DEBUG);
+		this.loggingSystem.setLogLevel("com.example.b", LogLevel.WARN);
+		this.loggingSystem.setLogLevel("com.other", LogLevel.WARN);
+		List<LoggerConfiguration> configurations = this.loggingSystem.getLoggerConfigurations("com.example");
+		assertThat(configurations).extracting(LoggerConfiguration::getName)
+				.allMatch((name) -> name.startsWith("com.example"))
+				.containsSubsequence("com.example", "com.example.a", "com.example.b");
+	}
+
 	@Test
 	void getLoggingConfiguration() {
 		this.loggingSystem.beforeInitialize();
@@ -621,6 +636,55 @@ class LogbackLoggingSystemTests extends AbstractLoggingSystemTests {
 		assertThat(encoder.getCharset()).isEqualTo(StandardCharsets.UTF_16);
 	}
 
+	@Test
+	void asyncAppendersWhenAsyncEnabled() {
+		this.environment.setProperty("logging.async.enabled", "true");
+		this.environment.setProperty("logging.async.queue-size", "64");
+		LoggingInitializationContext loggingInitializationContext = new LoggingInitializationContext(this.environment);
+		File file = new File(tmpDir(), "logback-test.log");
+		LogFile logFile = getLogFile(file.getPath(), null);
+		initialize(loggingInitializationContext, null, logFile);
+		Logger rootLogger = getRootLogger();
+		assertThat(rootLogger.getAppender("CONSOLE")).isNull();
+		assertThat(rootLogger.getAppender("FILE")).isNull();
+		AsyncAppender asyncConsole = (AsyncAppender) rootLogger.getAppender("ASYNC_CONSOLE");
+		assertThat(asyncConsole.getQueueSize()).isEqualTo(64);
+		assertThat(asyncConsole.getDiscardingThreshold()).isEqualTo(0);
+		assertThat(asyncConsole.getAppender("CONSOLE")).isInstanceOf(ConsoleAppender.class);
+		AsyncAppender asyncFile = (AsyncAppender) rootLogger.getAppender("ASYNC_FILE");
+		assertThat(asyncFile.getAppender("FILE")).isInstanceOf(RollingFileAppender.class);
+	}
+
+	@Test
+	void structuredJsonFormat(CapturedOutput output) {
+		this.environment.setProperty("logging.structured.format", "json");
+		this.environment.setProperty("spring.application.name", "test-app");
+		LoggingInitializationContext loggingInitializationContext = new LoggingInitializationContext(this.environment);
+		File file = new File(tmpDir(), "logback-test.log");
+		LogFile logFile = getLogFile(file.getPath(), null);
+		initialize(loggingInitializationContext, null, logFile);
+		MDC.put("requestId", "1234");
+		try {
+			this.logger.info("Hello \"world\"");
+		}
+		finally {
+			MDC.remove("requestId");
+		}
+		String line = getLineWithText(output, "Hello");
+		assertThat(line).startsWith("{\"timestamp\":\"").endsWith("}").contains("\"level\":\"INFO\"",
+				"\"message\":\"Hello \\\"world\\\"\"", "\"application\":\"test-app\"",
+				"\"mdc\":{\"requestId\":\"1234\"}");
+		assertThat(getLineWithText(file, "Hello")).isEqualTo(line);
+	}
+
+	@Test
+	void unsupportedStructuredFormatFails() {
+		this.environment.setProperty("logging.structured.format", "xml");
+		assertThatIllegalStateException()
+				.isThrownBy(() -> this.loggingSystem.getSystemProperties(this.environment).apply())
+				.withMessage("Unsupported structured logging format 'xml'");
+	}
+
 	private void initialize(LoggingInitializationContext context, String configLocation, LogFile logFile) {
 		this.loggingSystem.getSystemProperties((ConfigurableEnvironment) context.getEnvironment()).apply(logFile);
 		this.loggingSystem.initialize(context, configLocation, logFile);
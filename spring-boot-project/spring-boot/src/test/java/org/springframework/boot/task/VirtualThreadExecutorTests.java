@@ -0,0 +1,57 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.task;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link VirtualThreadExecutor}.
+ *
+ * @author agent
+ */
+class VirtualThreadExecutorTests {
+
+	@Test
+	void createWhenVirtualThreadsAreNotSupportedShouldThrowException() {
+		Assumptions.assumeFalse(VirtualThreadExecutor.isSupported());
+		assertThatIllegalStateException().isThrownBy(() -> new VirtualThreadExecutor("test-"))
+				.withMessage("Virtual threads are not supported by the current Java runtime");
+	}
+
+	@Test
+	void executeShouldRunTaskInNamedThread() throws InterruptedException {
+		Assumptions.assumeTrue(VirtualThreadExecutor.isSupported());
+		VirtualThreadExecutor executor = new VirtualThreadExecutor("test-");
+		AtomicReference<String> threadName = new AtomicReference<>();
+		CountDownLatch latch = new CountDownLatch(1);
+		executor.execute(() -> {
+			threadName.set(Thread.currentThread().getName());
+			latch.countDown();
+		});
+		assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(threadName.get()).startsWith("test-");
+	}
+
+}
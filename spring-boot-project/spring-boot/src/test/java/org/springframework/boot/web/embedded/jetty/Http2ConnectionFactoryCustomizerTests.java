@@ -0,0 +1,58 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.embedded.jetty;
+
+import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
+import org.eclipse.jetty.server.HttpConfiguration;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.web.server.Http2;
+import org.springframework.util.unit.DataSize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link Http2ConnectionFactoryCustomizer}.
+ *
+ * @author agent
+ */
+class Http2ConnectionFactoryCustomizerTests {
+
+	@Test
+	void shouldCustomizeConnectionFactory() {
+		Http2 http2 = new Http2();
+		http2.setMaxConcurrentStreams(50);
+		http2.setInitialWindowSize(DataSize.ofKilobytes(128));
+		http2.setHeaderTableSize(DataSize.ofKilobytes(8));
+		HTTP2CServerConnectionFactory factory = new Http2ConnectionFactoryCustomizer(http2)
+				.customize(new HTTP2CServerConnectionFactory(new HttpConfiguration()));
+		assertThat(factory.getMaxConcurrentStreams()).isEqualTo(50);
+		assertThat(factory.getInitialStreamRecvWindow()).isEqualTo(128 * 1024);
+		assertThat(factory.getMaxDynamicTableSize()).isEqualTo(8 * 1024);
+	}
+
+	@Test
+	void shouldKeepDefaultsWhenSettingsAreNotSet() {
+		HTTP2CServerConnectionFactory defaults = new HTTP2CServerConnectionFactory(new HttpConfiguration());
+		HTTP2CServerConnectionFactory factory = new Http2ConnectionFactoryCustomizer(new Http2())
+				.customize(new HTTP2CServerConnectionFactory(new HttpConfiguration()));
+		assertThat(factory.getMaxConcurrentStreams()).isEqualTo(defaults.getMaxConcurrentStreams());
+		assertThat(factory.getInitialStreamRecvWindow()).isEqualTo(defaults.getInitialStreamRecvWindow());
+		assertThat(factory.getMaxDynamicTableSize()).isEqualTo(defaults.getMaxDynamicTableSize());
+	}
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.embedded.undertow;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link JarEntryIndex}.
+ *
+ * @author agent
+ */
+class JarEntryIndexTests {
+
+	private File jar;
+
+	@BeforeEach
+	void createJar(@TempDir File tempDir) throws IOException {
+		this.jar = new File(tempDir, "test.jar");
+		try (JarOutputStream out = new JarOutputStream(new FileOutputStream(this.jar))) {
+			out.putNextEntry(new ZipEntry("hello.txt"));
+			out.putNextEntry(new ZipEntry("META-INF/resources/"));
+			out.putNextEntry(new ZipEntry("META-INF/resources/index.html"));
+		}
+	}
+
+	@Test
+	void indexOfFileContainsAllEntries() {
+		JarEntryIndex index = JarEntryIndex.of(this.jar);
+		assertThat(index.contains("hello.txt")).isTrue();
+		assertThat(index.contains("META-INF/resources/index.html")).isTrue();
+		assertThat(index.contains("missing.txt")).isFalse();
+	}
+
+	@Test
+	void indexContainsDirectoriesWithoutTrailingSlash() {
+		JarEntryIndex index = JarEntryIndex.of(this.jar);
+		assertThat(index.contains("META-INF/resources")).isTrue();
+		assertThat(index.contains("META-INF/resources/")).isTrue();
+	}
+
+	@Test
+	void indexOfUrlContainsEntriesWithPrefix() throws IOException {
+		JarEntryIndex index = JarEntryIndex.of(new URL("jar:" + this.jar.toURI().toURL() + "!/"),
+				"META-INF/resources/");
+		assertThat(index.contains("META-INF/resources/index.html")).isTrue();
+		assertThat(index.contains("hello.txt")).isFalse();
+	}
+
+	@Test
+	void indexOfFileThatIsNotAJarIsNull(@TempDir File tempDir) throws IOException {
+		File file = new File(tempDir, "file.txt");
+		file.createNewFile();
+		assertThat(JarEntryIndex.of(file)).isNull();
+	}
+
+}
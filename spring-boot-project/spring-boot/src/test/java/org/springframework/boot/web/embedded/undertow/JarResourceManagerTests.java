@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -45,6 +45,9 @@ class JarResourceManagerTests {
 		try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar))) {
 			out.putNextEntry(new ZipEntry("hello.txt"));
 			out.write("hello".getBytes());
+			out.putNextEntry(new ZipEntry("static/"));
+			out.putNextEntry(new ZipEntry("static/style.css"));
+			out.write("body {}".getBytes());
 		}
 		this.resourceManager = new JarResourceManager(jar);
 	}
@@ -79,4 +82,24 @@ class JarResourceManagerTests {
 		assertThat(resource.getContentLength()).isEqualTo(5);
 	}
 
+	@Test
+	void nestedResourceIsFoundInJarFile() throws IOException {
+		Resource resource = this.resourceManager.getResource("/static/style.css");
+		assertThat(resource).isNotNull();
+		assertThat(resource.getContentLength()).isEqualTo(7);
+	}
+
+	@Test
+	void directoryIsFoundInJarFile() throws IOException {
+		Resource resource = this.resourceManager.getResource("/static");
+		assertThat(resource).isNotNull();
+		assertThat(resource.isDirectory()).isTrue();
+	}
+
+	@Test
+	void resourceThatDoesNotExistIsNotFound() throws IOException {
+		assertThat(this.resourceManager.getResource("/missing.txt")).isNull();
+		assertThat(this.resourceManager.getResource("/static/missing.css")).isNull();
+	}
+
 }
@@ -1107,6 +1107,86 @@ public abstract class AbstractServletWebServerFactoryTests {
 		Awaitility.await().atMost(Duration.ofSeconds(5)).until(() -> GracefulShutdownResult.IDLE == result.get());
 	}
 
+	@Test
+	void whenSeveralRequestsRemainInFlightThenShutDownGracefullyDoesNotInvokeCallbackUntilAllOfThemComplete()
+			throws Exception {
+		AbstractServletWebServerFactory factory = getFactory();
+		factory.setShutdown(Shutdown.GRACEFUL);
+		BlockingServlet blockingServlet = new BlockingServlet();
+		this.webServer = factory.getWebServer((context) -> {
+			Dynamic registration = context.addServlet("blockingServlet", blockingServlet);
+			registration.addMapping("/blocking");
+		});
+		this.webServer.start();
+		int port = this.webServer.getPort();
+		Future<Object> request1 = initiateGetRequest(port, "/blocking");
+		Future<Object> request2 = initiateGetRequest(port, "/blocking");
+		blockingServlet.awaitQueue(2);
+		AtomicReference<GracefulShutdownResult> result = new AtomicReference<>();
+		this.webServer.shutDownGracefully(result::set);
+		blockingServlet.admitOne();
+		Awaitility.await().atMost(Duration.ofSeconds(30)).until(() -> request1.isDone() || request2.isDone());
+		assertThat(result.get()).isNull();
+		blockingServlet.admitOne();
+		assertThat(request1.get()).isInstanceOf(HttpResponse.class);
+		assertThat(request2.get()).isInstanceOf(HttpResponse.class);
+		Awaitility.await().atMost(Duration.ofSeconds(30)).until(() -> GracefulShutdownResult.IDLE == result.get());
+	}
+
+	@Test
+	void whenSeveralAsyncRequestsRemainInFlightThenShutDownGracefullyDoesNotInvokeCallbackUntilAllOfThemComplete()
+			throws Exception {
+		AbstractServletWebServerFactory factory = getFactory();
+		factory.setShutdown(Shutdown.GRACEFUL);
+		BlockingAsyncServlet blockingAsyncServlet = new BlockingAsyncServlet();
+		this.webServer = factory.getWebServer((context) -> {
+			Dynamic registration = context.addServlet("blockingServlet", blockingAsyncServlet);
+			registration.addMapping("/blockingAsync");
+			registration.setAsyncSupported(true);
+		});
+		this.webServer.start();
+		int port = this.webServer.getPort();
+		Future<Object> request1 = initiateGetRequest(port, "/blockingAsync");
+		Future<Object> request2 = initiateGetRequest(port, "/blockingAsync");
+		blockingAsyncServlet.awaitQueue(2);
+		AtomicReference<GracefulShutdownResult> result = new AtomicReference<>();
+		this.webServer.shutDownGracefully(result::set);
+		blockingAsyncServlet.admitOne();
+		Awaitility.await().atMost(Duration.ofSeconds(30)).until(() -> request1.isDone() || request2.isDone());
+		assertThat(result.get()).isNull();
+		blockingAsyncServlet.admitOne();
+		assertThat(request1.get()).isInstanceOf(HttpResponse.class);
+		assertThat(request2.get()).isInstanceOf(HttpResponse.class);
+		Awaitility.await().atMost(Duration.ofSeconds(30)).until(() -> GracefulShutdownResult.IDLE == result.get());
+	}
+
+	@Test
+	void whenARequestRemainsInFlightThenStopDuringGracefulShutdownInvokesCallbackWithRequestsActive()
+			throws Exception {
+		AbstractServletWebServerFactory factory = getFactory();
+		factory.setShutdown(Shutdown.GRACEFUL);
+		BlockingServlet blockingServlet = new BlockingServlet();
+		this.webServer = factory.getWebServer((context) -> {
+			Dynamic registration = context.addServlet("blockingServlet", blockingServlet);
+			registration.addMapping("/blocking");
+		});
+		this.webServer.start();
+		int port = this.webServer.getPort();
+		initiateGetRequest(port, "/blocking");
+		blockingServlet.awaitQueue();
+		AtomicReference<GracefulShutdownResult> result = new AtomicReference<>();
+		this.webServer.shutDownGracefully(result::set);
+		this.webServer.stop();
+		Awaitility.await().atMost(Duration.ofSeconds(30))
+				.until(() -> GracefulShutdownResult.REQUESTS_ACTIVE == result.get());
+		try {
+			blockingServlet.admitOne();
+		}
+		catch (RuntimeException ex) {
+
+		}
+	}
+
 	@Test
 	void whenARequestIsActiveThenStopWillComplete() throws InterruptedException, BrokenBarrierException {
 		AbstractServletWebServerFactory factory = getFactory();
@@ -1590,6 +1670,12 @@ public abstract class AbstractServletWebServerFactoryTests {
 			}
 		}
 
+		private void awaitQueue(int size) throws InterruptedException {
+			while (this.barriers.size() < size) {
+				Thread.sleep(100);
+			}
+		}
+
 	}
 
 }